@@ -1,6 +1,9 @@
 package com.ei.classroom;
 
+import com.ei.classroom.command.ScriptRunner;
+import com.ei.classroom.factory.AssignmentFactory;
 import com.ei.classroom.manager.ClassroomManager;
+import com.ei.classroom.manager.Storage;
 import com.ei.classroom.patterns.behavioral.ObserverDemo;
 import com.ei.classroom.patterns.behavioral.StrategyDemo;
 import com.ei.classroom.patterns.creational.SingletonDemo;
@@ -8,6 +11,13 @@ import com.ei.classroom.patterns.creational.FactoryDemo;
 import com.ei.classroom.patterns.structural.DecoratorDemo;
 import com.ei.classroom.patterns.structural.AdapterDemo;
 import com.ei.classroom.util.AppLogger;
+import com.ei.classroom.view.ConsoleRenderer;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.InputMismatchException;
 import java.util.NoSuchElementException;
 import java.util.Scanner;
@@ -16,14 +26,81 @@ public class MainApplication {
     private static final String CLASS_NAME = "MainApplication";
     private static final Scanner SCANNER = new Scanner(System.in);
     private static final ClassroomManager MANAGER = ClassroomManager.getInstance();
+    private static final ConsoleRenderer RENDERER = new ConsoleRenderer();
+    private static final int SCRIPT_BUFFER_SIZE = 64 * 1024;
 
+    /**
+     * Starts the interactive menu, or with --script=FILE (or --script=- for stdin) runs the
+     * commands in the file without prompts and exits.
+     */
     public static void main(String[] args) {
+        String script = null;
+        for (String arg : args) {
+            if (arg.startsWith("--script=")) {
+                script = arg.substring("--script=".length());
+            } else {
+                AppLogger.logError(CLASS_NAME, "Ignoring argument: " + arg);
+            }
+        }
+        if (script != null) {
+            if (System.getProperty("classroom.log.level") == null) {
+                AppLogger.setLevel(AppLogger.Level.ERROR); // per-command INFO lines would dominate the run
+            }
+            openStorageOrExit();
+            int exitCode = runScript(script);
+            shutdown();
+            System.exit(exitCode);
+        }
+
         System.out.println("*****************************");
         System.out.println("* Virtual Classroom Manager *");
         System.out.println("*****************************");
-        
+        openStorageOrExit();
         showInitialMenu();
     }
+
+    /**
+     * Loads the snapshot and replays the journal, if configured. If either fails the process
+     * exits: running on (and checkpointing on exit) with part of the saved state missing
+     * would overwrite the good files with that partial state.
+     */
+    private static void openStorageOrExit() {
+        try {
+            Storage.open(MANAGER);
+        } catch (IOException | RuntimeException e) {
+            AppLogger.logError(CLASS_NAME, "Could not load the saved state (" + Storage.describe()
+                    + "). Exiting without saving anything.", e);
+            MANAGER.shutdown();
+            AppLogger.shutdown();
+            System.exit(2);
+        }
+    }
+
+    /**
+     * @return the process exit code: 0 if every command succeeded, 1 if some failed, 2 if the script could not be read.
+     */
+    private static int runScript(String script) {
+        MANAGER.setConsoleEcho(false);
+        BufferedReader reader = null;
+        try {
+            reader = "-".equals(script)
+                    ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8), SCRIPT_BUFFER_SIZE)
+                    : new BufferedReader(new InputStreamReader(Files.newInputStream(Paths.get(script)), StandardCharsets.UTF_8), SCRIPT_BUFFER_SIZE);
+            long errors = new ScriptRunner(MANAGER, System.out).run(reader);
+            return errors == 0 ? 0 : 1;
+        } catch (IOException e) {
+            AppLogger.logError(CLASS_NAME, "Could not read script " + script + ".", e);
+            return 2;
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    AppLogger.logError(CLASS_NAME, "Could not close script " + script + ".", e);
+                }
+            }
+        }
+    }
     
     private static void showInitialMenu() {
         boolean running = true;
@@ -63,9 +140,19 @@ public class MainApplication {
             }
         }
         System.out.println("\nVirtual Classroom Manager shutting down. Goodbye!");
+        shutdown();
         SCANNER.close();
     }
 
+    /**
+     * Writes the snapshot (if configured), flushes the journal and stops background threads.
+     */
+    private static void shutdown() {
+        Storage.checkpoint(MANAGER);
+        MANAGER.shutdown();
+        AppLogger.shutdown();
+    }
+
 
     private static void runPatternDemos() {
         System.out.println("\n--- EXERCISE 1: DESIGN PATTERN DEMONSTRATIONS ---");
@@ -137,7 +224,7 @@ public class MainApplication {
             case 2: enrollStudent(); break;
             case 3: scheduleAssignment(); break;
             case 4: submitAssignment(); break;
-            case 5: MANAGER.listClassrooms(); break;
+            case 5: RENDERER.renderClassrooms(MANAGER); break;
             case 6: listStudentsInClass(); break;
             // Case 0 is handled in startClassroomManager
             default: System.out.println("Choice " + choice + " is not valid. Please try again.");
@@ -179,7 +266,7 @@ public class MainApplication {
         String className = SCANNER.nextLine().trim();
         System.out.print("Enter assignment name: ");
         String assignmentName = SCANNER.nextLine().trim();
-        System.out.print("Enter assignment type (MCQ, ESSAY, PRACTICAL): ");
+        System.out.print("Enter assignment type (" + AssignmentFactory.describeKinds() + "): ");
         String type = SCANNER.nextLine().trim();
 
         if (className.isEmpty() || assignmentName.isEmpty() || type.isEmpty()) {
@@ -209,7 +296,7 @@ public class MainApplication {
 
         try {
             MANAGER.submitAssignment(studentId, className, assignmentName); 
-        } catch (NoSuchElementException e) {
+        } catch (NoSuchElementException | IllegalStateException e) {
             System.out.println("Error: " + e.getMessage());
         }
     }
@@ -224,7 +311,7 @@ public class MainApplication {
         }
 
         try {
-            MANAGER.listStudentsInClass(className);
+            RENDERER.renderStudents(MANAGER, className);
         } catch (NoSuchElementException e) {
             System.out.println("Error: " + e.getMessage());
         }
@@ -0,0 +1,128 @@
+package com.ei.classroom.benchmark;
+
+import com.ei.classroom.manager.ClassroomManager;
+import com.ei.classroom.server.CommandServer;
+import com.ei.classroom.util.AppLogger;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Pipelining client for CommandServer: one connection, one thread writing commands as fast as
+ * the socket takes them and the calling thread reading the responses, so the server is never
+ * waiting on a round trip. Without --port it starts a CommandServer on a free localhost port
+ * backed by a standalone manager.
+ *
+ * Usage: java -cp bin com.ei.classroom.benchmark.CommandLoadClient
+ *            [--host=localhost] [--port=7070] [--students=200000] [--classrooms=100]
+ */
+public class CommandLoadClient {
+    private static final String CLASS_NAME = "CommandLoadClient";
+
+    private static String host = "localhost";
+    private static int port = -1;
+    private static int students = 200_000;
+    private static int classrooms = 100;
+
+    public static void main(String[] args) throws Exception {
+        parseArgs(args);
+        AppLogger.setLevel(AppLogger.Level.ERROR);
+        CommandServer embedded = null;
+        ClassroomManager manager = null;
+        if (port < 0) {
+            manager = ClassroomManager.createStandalone();
+            manager.setConsoleEcho(false);
+            embedded = new CommandServer(manager, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            embedded.start();
+            port = embedded.getPort();
+        }
+        try (Socket socket = new Socket(host, port)) {
+            socket.setTcpNoDelay(true);
+            long expected = 2L * classrooms + 2L * students;
+            long start = System.nanoTime();
+            Thread writer = new Thread(() -> writeCommands(socket), "command-writer");
+            writer.start();
+
+            BufferedReader in = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8), 1 << 16);
+            long ok = 0;
+            long errors = 0;
+            String firstError = null;
+            for (long i = 0; i < expected; i++) {
+                String line = in.readLine();
+                if (line == null) {
+                    break;
+                }
+                if (line.startsWith("OK")) {
+                    ok++;
+                } else if (errors++ == 0) {
+                    firstError = line;
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            writer.join();
+            System.out.printf("%d commands in %.2f s: %.0f commands/s, %d OK, %d ERR%n",
+                    ok + errors, elapsed / 1e9, (ok + errors) * 1e9 / elapsed, ok, errors);
+            if (firstError != null) {
+                System.out.println("First error: " + firstError);
+            }
+        } finally {
+            if (embedded != null) {
+                embedded.stop();
+                manager.shutdown();
+            }
+        }
+    }
+
+    private static void writeCommands(Socket socket) {
+        try {
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream(), 1 << 16);
+            StringBuilder line = new StringBuilder(96);
+            for (int c = 0; c < classrooms; c++) {
+                line.append("ADD_CLASS|Class").append(c).append('\n');
+                line.append("SCHEDULE|Class").append(c).append("|HW|MCQ\n");
+                write(out, line);
+            }
+            for (int s = 0; s < students; s++) {
+                int c = s % classrooms;
+                line.append("ENROLL|S").append(s).append("|Student ").append(s).append("|Class").append(c).append('\n');
+                line.append("SUBMIT|S").append(s).append("|Class").append(c).append("|HW\n");
+                write(out, line);
+            }
+            out.flush();
+            socket.shutdownOutput();
+        } catch (IOException e) {
+            AppLogger.logError(CLASS_NAME, "Writer stopped.", e);
+        }
+    }
+
+    private static void write(OutputStream out, StringBuilder line) throws IOException {
+        out.write(line.toString().getBytes(StandardCharsets.UTF_8));
+        line.setLength(0);
+    }
+
+    private static void parseArgs(String[] args) {
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                AppLogger.logError(CLASS_NAME, "Ignoring argument: " + arg);
+                continue;
+            }
+            String key = arg.substring(2, eq);
+            String value = arg.substring(eq + 1);
+            switch (key) {
+                case "host": host = value; break;
+                case "port": port = Integer.parseInt(value); break;
+                case "students": students = Integer.parseInt(value); break;
+                case "classrooms": classrooms = Integer.parseInt(value); break;
+                default: AppLogger.logError(CLASS_NAME, "Unknown option: " + key);
+            }
+        }
+    }
+}
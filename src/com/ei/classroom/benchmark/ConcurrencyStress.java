@@ -0,0 +1,249 @@
+package com.ei.classroom.benchmark;
+
+import com.ei.classroom.manager.ClassroomManager;
+import com.ei.classroom.model.Assignment;
+import com.ei.classroom.model.ClassroomStats;
+import com.ei.classroom.model.ClassroomView;
+import com.ei.classroom.util.AppLogger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stress and scaling check for concurrent enrollment and submission.
+ * For each thread count, a fresh standalone manager is hammered by that many threads at once:
+ * each enrolls its own students into classrooms shared with the other threads, submits every
+ * assignment for them and unenrolls every tenth one again, and all threads race to enroll
+ * the same shared students and submit for them. Afterwards every count the manager reports
+ * is checked against what the threads did, and the run stops with an IllegalStateException
+ * at the first mismatch. Prints throughput per thread count.
+ *
+ * Usage: java -cp bin com.ei.classroom.benchmark.ConcurrencyStress
+ *            [--threads=1,2,4,8] [--classrooms=8] [--students=2000] (per thread)
+ *            [--shared=500] [--assignments=4]
+ */
+public class ConcurrencyStress {
+    private static final String CLASS_NAME = "ConcurrencyStress";
+    private static final int UNENROLL_EVERY = 10;
+
+    private static int[] threadCounts = defaultThreadCounts();
+    private static int classroomCount = 8;
+    private static int studentsPerThread = 2000;
+    private static int sharedStudents = 500;
+    private static int assignmentCount = 4;
+
+    public static void main(String[] args) throws InterruptedException {
+        parseArgs(args);
+        AppLogger.setLevel(AppLogger.Level.OFF);
+        System.out.printf("%8s %12s %14s %10s%n", "threads", "operations", "ops/s", "checks");
+        for (int threads : threadCounts) {
+            run(threads);
+        }
+    }
+
+    private static void run(int threads) throws InterruptedException {
+        ClassroomManager manager = ClassroomManager.createStandalone();
+        manager.setConsoleEcho(false);
+        try {
+            for (int c = 0; c < classroomCount; c++) {
+                manager.addClassroom(className(c));
+                for (int a = 0; a < assignmentCount; a++) {
+                    manager.scheduleAssignment(className(c), assignmentName(a), "MCQ");
+                }
+            }
+            AtomicLong operations = new AtomicLong();
+            AtomicLong sharedSubmissions = new AtomicLong();
+            List<Throwable> failures = new ArrayList<>();
+            CountDownLatch start = new CountDownLatch(1);
+            Thread[] workers = new Thread[threads];
+            for (int t = 0; t < threads; t++) {
+                int worker = t;
+                workers[t] = new Thread(() -> {
+                    try {
+                        start.await();
+                        operations.addAndGet(work(manager, worker, sharedSubmissions));
+                    } catch (Throwable e) {
+                        synchronized (failures) {
+                            failures.add(e);
+                        }
+                    }
+                }, "stress-" + t);
+                workers[t].start();
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            long elapsed = System.nanoTime() - begin;
+            if (!failures.isEmpty()) {
+                throw new IllegalStateException(failures.size() + " worker(s) failed.", failures.get(0));
+            }
+            int checks = verify(manager, threads, sharedSubmissions.get());
+            System.out.printf("%8d %12d %14.0f %10d%n", threads, operations.get(),
+                    operations.get() * 1e9 / elapsed, checks);
+        } finally {
+            manager.shutdown();
+        }
+    }
+
+    /**
+     * @return how many manager calls the worker made.
+     */
+    private static long work(ClassroomManager manager, int worker, AtomicLong sharedSubmissions) {
+        long operations = 0;
+        for (int i = 0; i < studentsPerThread; i++) {
+            String studentId = ownStudentId(worker, i);
+            String className = className(ownClassroom(worker, i));
+            manager.enrollStudent(studentId, "Student " + i, className);
+            for (int a = 0; a < assignmentCount; a++) {
+                manager.submitAssignment(studentId, className, assignmentName(a));
+            }
+            operations += 1 + assignmentCount;
+            if (i % UNENROLL_EVERY == 0) {
+                manager.unenrollStudent(studentId, className);
+                operations++;
+            }
+        }
+        // Every worker enrolls and submits for the same shared students; exactly one submission
+        // per (student, assignment) may win, the others must be refused as duplicates.
+        for (int j = 0; j < sharedStudents; j++) {
+            String studentId = sharedStudentId(j);
+            String className = className(j % classroomCount);
+            manager.enrollStudent(studentId, "Shared " + j, className);
+            for (int a = 0; a < assignmentCount; a++) {
+                try {
+                    manager.submitAssignment(studentId, className, assignmentName(a));
+                    sharedSubmissions.incrementAndGet();
+                } catch (IllegalStateException alreadySubmitted) {
+                    // another worker got there first
+                }
+            }
+            operations += 1 + assignmentCount;
+        }
+        return operations;
+    }
+
+    /**
+     * @return how many invariants were checked.
+     */
+    private static int verify(ClassroomManager manager, int threads, long sharedSubmissions) {
+        int checks = 0;
+        check(sharedSubmissions == (long) sharedStudents * assignmentCount,
+                "shared submissions accepted: " + sharedSubmissions);
+        checks++;
+
+        long[] expectedEnrolled = new long[classroomCount];
+        for (int t = 0; t < threads; t++) {
+            for (int i = 0; i < studentsPerThread; i++) {
+                if (i % UNENROLL_EVERY != 0) {
+                    expectedEnrolled[ownClassroom(t, i)]++;
+                }
+            }
+        }
+        for (int j = 0; j < sharedStudents; j++) {
+            expectedEnrolled[j % classroomCount]++;
+        }
+
+        for (int c = 0; c < classroomCount; c++) {
+            String className = className(c);
+            long enrolled = expectedEnrolled[c];
+            ClassroomStats stats = manager.getClassroomStats(className);
+            ClassroomView view = manager.getClassroomView(className);
+            check(stats.getEnrolledCount() == enrolled, className + " enrolled count " + stats.getEnrolledCount());
+            check(view.getEnrolledCount() == enrolled, className + " view enrolled count " + view.getEnrolledCount());
+            check(view.getEnrolledStudents().size() == enrolled, className + " roster size");
+            check(manager.streamStudentsInClass(className).count() == enrolled, className + " streamed roster size");
+            check(stats.getSubmittedCount() == enrolled * assignmentCount, className + " submitted count "
+                    + stats.getSubmittedCount());
+            check(stats.getPendingCount() == 0, className + " pending count " + stats.getPendingCount());
+            checks += 6;
+            for (Assignment assignment : view.getAssignments()) {
+                long submitted = manager.getAssignmentStats(className, assignment.getName()).getSubmittedCount();
+                check(submitted == enrolled, className + "/" + assignment.getName() + " submitted " + submitted);
+                check(view.getMissingSubmissions(assignment).isEmpty(), className + "/" + assignment.getName()
+                        + " has missing submissions");
+                checks += 2;
+            }
+        }
+
+        for (int t = 0; t < threads; t++) {
+            for (int i = 0; i < studentsPerThread; i++) {
+                List<String> joined = manager.getClassroomsOfStudent(ownStudentId(t, i));
+                List<String> expected = i % UNENROLL_EVERY == 0
+                        ? List.of() : List.of(className(ownClassroom(t, i)));
+                check(joined.equals(expected), ownStudentId(t, i) + " is in " + joined);
+                checks++;
+            }
+        }
+        for (int j = 0; j < sharedStudents; j++) {
+            List<String> joined = manager.getClassroomsOfStudent(sharedStudentId(j));
+            check(joined.equals(List.of(className(j % classroomCount))), sharedStudentId(j) + " is in " + joined);
+            check(manager.getPendingAssignments(sharedStudentId(j)).isEmpty(), sharedStudentId(j) + " has pending work");
+            checks += 2;
+        }
+        return checks;
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException("Invariant violated: " + message);
+        }
+    }
+
+    private static int ownClassroom(int worker, int index) {
+        return (worker + index) % classroomCount; // every classroom is shared by all workers
+    }
+
+    private static String className(int index) {
+        return "Class" + index;
+    }
+
+    private static String assignmentName(int index) {
+        return "A" + index;
+    }
+
+    private static String ownStudentId(int worker, int index) {
+        return "T" + worker + "_" + index;
+    }
+
+    private static String sharedStudentId(int index) {
+        return "Shared" + index;
+    }
+
+    private static int[] defaultThreadCounts() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        List<Integer> counts = new ArrayList<>();
+        for (int threads = 1; threads < processors; threads *= 2) {
+            counts.add(threads);
+        }
+        counts.add(processors);
+        return counts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static void parseArgs(String[] args) {
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                AppLogger.logError(CLASS_NAME, "Ignoring argument: " + arg);
+                continue;
+            }
+            String key = arg.substring(2, eq);
+            String value = arg.substring(eq + 1);
+            switch (key) {
+                case "threads": threadCounts = parseList(value); break;
+                case "classrooms": classroomCount = Integer.parseInt(value); break;
+                case "students": studentsPerThread = Integer.parseInt(value); break;
+                case "shared": sharedStudents = Integer.parseInt(value); break;
+                case "assignments": assignmentCount = Integer.parseInt(value); break;
+                default: AppLogger.logError(CLASS_NAME, "Unknown option: " + key);
+            }
+        }
+    }
+
+    private static int[] parseList(String value) {
+        return Arrays.stream(value.split(",")).mapToInt(v -> Integer.parseInt(v.trim())).toArray();
+    }
+}
@@ -0,0 +1,102 @@
+package com.ei.classroom.benchmark;
+
+import com.ei.classroom.scheduler.TimerWheel;
+import com.ei.classroom.util.AppLogger;
+import java.util.PriorityQueue;
+
+/**
+ * Compares the TimerWheel behind DeadlineScheduler with a binary heap of deadlines (the
+ * structure a ScheduledThreadPoolExecutor keeps its tasks in) for many pending deadlines.
+ * Both get the same deadlines, spread evenly over the horizon, and are then advanced one
+ * tick at a time until all of them have expired; no real time passes.
+ *
+ * Usage: java -cp bin com.ei.classroom.benchmark.DeadlineBenchmark
+ *            [--deadlines=500000] [--horizon=864000] (ticks; one day of 100 ms ticks)
+ */
+public class DeadlineBenchmark {
+    private static final String CLASS_NAME = "DeadlineBenchmark";
+
+    private static int deadlineCount = 500_000;
+    private static long horizonTicks = 864_000;
+
+    public static void main(String[] args) {
+        parseArgs(args);
+        long[] deadlines = new long[deadlineCount];
+        for (int i = 0; i < deadlineCount; i++) {
+            deadlines[i] = 1 + (i * 2654435761L) % horizonTicks; // evenly spread, not in order
+        }
+        System.out.printf("%d deadlines over %d ticks%n", deadlineCount, horizonTicks);
+        System.out.printf("%-14s %14s %12s %14s%n", "structure", "ns/schedule", "ns/tick", "ns/expiry");
+        for (int round = 0; round < 3; round++) { // the first rounds warm up the JIT
+            runWheel(deadlines, round == 2);
+            runHeap(deadlines, round == 2);
+        }
+    }
+
+    private static void runWheel(long[] deadlines, boolean print) {
+        TimerWheel<Object> wheel = new TimerWheel<>(0);
+        long start = System.nanoTime();
+        for (long deadline : deadlines) {
+            wheel.schedule(deadline, null);
+        }
+        long scheduled = System.nanoTime();
+        long[] expired = new long[1];
+        for (long tick = 1; tick <= horizonTicks; tick++) {
+            wheel.advanceTo(tick, payload -> expired[0]++);
+        }
+        long end = System.nanoTime();
+        check(expired[0]);
+        if (print) {
+            report("TimerWheel", scheduled - start, end - scheduled);
+        }
+    }
+
+    private static void runHeap(long[] deadlines, boolean print) {
+        PriorityQueue<Long> heap = new PriorityQueue<>(deadlines.length);
+        long start = System.nanoTime();
+        for (long deadline : deadlines) {
+            heap.add(deadline);
+        }
+        long scheduled = System.nanoTime();
+        long expired = 0;
+        for (long tick = 1; tick <= horizonTicks; tick++) {
+            while (!heap.isEmpty() && heap.peek() <= tick) {
+                heap.poll();
+                expired++;
+            }
+        }
+        long end = System.nanoTime();
+        check(expired);
+        if (print) {
+            report("binary heap", scheduled - start, end - scheduled);
+        }
+    }
+
+    private static void check(long expired) {
+        if (expired != deadlineCount) {
+            throw new IllegalStateException(expired + " of " + deadlineCount + " deadlines expired.");
+        }
+    }
+
+    private static void report(String structure, long scheduleNanos, long advanceNanos) {
+        System.out.printf("%-14s %14.1f %12.1f %14.1f%n", structure, (double) scheduleNanos / deadlineCount,
+                (double) advanceNanos / horizonTicks, (double) advanceNanos / deadlineCount);
+    }
+
+    private static void parseArgs(String[] args) {
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                AppLogger.logError(CLASS_NAME, "Ignoring argument: " + arg);
+                continue;
+            }
+            String key = arg.substring(2, eq);
+            String value = arg.substring(eq + 1);
+            switch (key) {
+                case "deadlines": deadlineCount = Integer.parseInt(value); break;
+                case "horizon": horizonTicks = Long.parseLong(value); break;
+                default: AppLogger.logError(CLASS_NAME, "Unknown option: " + key);
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.ei.classroom.benchmark;
+
+import com.ei.classroom.model.Student;
+import com.ei.classroom.util.AppLogger;
+import com.ei.classroom.util.IntIntHashMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares the heap used by roster seat indexes keyed by student ID string
+ * (HashMap&lt;String, Integer&gt;, the layout Roster used before student ordinals) with the
+ * ordinal-keyed IntIntHashMap it uses now, for the same students and enrollments, and times a
+ * seat lookup in each. The Student objects are shared by both and not counted.
+ * Heap use is measured as the growth of used heap after forced collections, so run it with
+ * nothing else in the JVM and a heap large enough for both layouts (e.g. -Xmx2g).
+ *
+ * Usage: java -cp bin com.ei.classroom.benchmark.FootprintComparison
+ *            [--students=1000000] [--classrooms=1000] [--enrollments=4] [--lookups=5000000]
+ */
+public class FootprintComparison {
+    private static final String CLASS_NAME = "FootprintComparison";
+
+    private static int studentCount = 1_000_000;
+    private static int classroomCount = 1_000;
+    private static int enrollmentsPerStudent = 4;
+    private static int lookups = 5_000_000;
+
+    public static void main(String[] args) {
+        parseArgs(args);
+        Student[] students = new Student[studentCount];
+        for (int s = 0; s < studentCount; s++) {
+            students[s] = new Student("S" + s, "Student " + s, s); // ordinals as a manager would hand them out
+        }
+        long enrollments = (long) studentCount * enrollmentsPerStudent;
+        System.out.printf("%d students, %d classrooms, %d enrollments%n", studentCount, classroomCount, enrollments);
+        System.out.printf("%-22s %14s %16s %14s%n", "index", "heap bytes", "bytes/enrollment", "ns/lookup");
+
+        long before = usedHeap();
+        List<Map<String, Integer>> byId = new ArrayList<>(classroomCount);
+        for (int c = 0; c < classroomCount; c++) {
+            byId.add(new HashMap<>());
+        }
+        for (int s = 0; s < studentCount; s++) {
+            for (int e = 0; e < enrollmentsPerStudent; e++) {
+                Map<String, Integer> seats = byId.get(classroomOf(s, e));
+                seats.put(students[s].getId(), seats.size());
+            }
+        }
+        long idBytes = usedHeap() - before;
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < lookups; i++) {
+            int s = (int) ((i * 2654435761L) % studentCount);
+            sink += byId.get(classroomOf(s, i % enrollmentsPerStudent)).get(students[s].getId());
+        }
+        report("HashMap<String,Int>", idBytes, enrollments, System.nanoTime() - start);
+        byId = null;
+
+        before = usedHeap();
+        IntIntHashMap[] byOrdinal = new IntIntHashMap[classroomCount];
+        for (int c = 0; c < classroomCount; c++) {
+            byOrdinal[c] = new IntIntHashMap();
+        }
+        for (int s = 0; s < studentCount; s++) {
+            for (int e = 0; e < enrollmentsPerStudent; e++) {
+                IntIntHashMap seats = byOrdinal[classroomOf(s, e)];
+                seats.put(students[s].getOrdinal(), seats.size());
+            }
+        }
+        long ordinalBytes = usedHeap() - before;
+        start = System.nanoTime();
+        for (int i = 0; i < lookups; i++) {
+            int s = (int) ((i * 2654435761L) % studentCount);
+            sink += byOrdinal[classroomOf(s, i % enrollmentsPerStudent)].get(students[s].getOrdinal());
+        }
+        report("IntIntHashMap", ordinalBytes, enrollments, System.nanoTime() - start);
+        System.out.printf("Ordinal index uses %.1f%% of the string-keyed one.%n", 100.0 * ordinalBytes / idBytes);
+        if (sink == Long.MIN_VALUE) {
+            System.out.println(byOrdinal.length); // keeps both the maps and the lookups alive
+        }
+    }
+
+    // Spreads each student's enrollments over distinct classrooms.
+    private static int classroomOf(int student, int enrollment) {
+        return (int) (((long) student * enrollmentsPerStudent + enrollment) % classroomCount);
+    }
+
+    private static void report(String index, long bytes, long enrollments, long lookupNanos) {
+        System.out.printf("%-22s %14d %16.1f %14.1f%n", index, bytes, (double) bytes / enrollments,
+                (double) lookupNanos / lookups);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+
+    private static void parseArgs(String[] args) {
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                AppLogger.logError(CLASS_NAME, "Ignoring argument: " + arg);
+                continue;
+            }
+            String key = arg.substring(2, eq);
+            String value = arg.substring(eq + 1);
+            switch (key) {
+                case "students": studentCount = Integer.parseInt(value); break;
+                case "classrooms": classroomCount = Integer.parseInt(value); break;
+                case "enrollments": enrollmentsPerStudent = Integer.parseInt(value); break;
+                case "lookups": lookups = Integer.parseInt(value); break;
+                default: AppLogger.logError(CLASS_NAME, "Unknown option: " + key);
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.ei.classroom.benchmark;
+
+import com.ei.classroom.grading.EasyDifficulty;
+import com.ei.classroom.grading.GradingEngine;
+import com.ei.classroom.grading.HardDifficulty;
+import com.ei.classroom.grading.QuizDifficultyStrategy;
+import com.ei.classroom.manager.ClassroomManager;
+import com.ei.classroom.manager.EnrollmentRequest;
+import com.ei.classroom.util.AppLogger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Throughput of score adjustment, from one boxed strategy call per score up to grading a whole
+ * classroom through ClassroomManager.gradeAssignment:
+ * <pre>
+ * per-score   calculateScoreAdjustment per score, boxed in and out of lists
+ * bulk        one adjustAll call over the column on the calling thread
+ * engine      GradingEngine, which forks large columns across the common pool
+ * classroom   gradeAssignment on a classroom of --roster students, including seat layout and storage
+ * </pre>
+ * Each mode runs --warmup unmeasured rounds and then --rounds measured ones; the best and the
+ * mean round are reported.
+ *
+ * Usage: java -cp bin com.ei.classroom.benchmark.GradingBenchmark
+ *            [--scores=5000000] [--roster=200000] [--rounds=10] [--warmup=5] [--difficulty=easy|hard]
+ */
+public class GradingBenchmark {
+    private static final String CLASS_NAME = "GradingBenchmark";
+
+    private interface Round {
+        /** @return a value derived from the results, so the work cannot be optimized away. */
+        double run();
+    }
+
+    private static int scores = 5_000_000;
+    private static int roster = 200_000;
+    private static int rounds = 10;
+    private static int warmup = 5;
+    private static QuizDifficultyStrategy difficulty = new EasyDifficulty();
+
+    public static void main(String[] args) {
+        parseArgs(args);
+        AppLogger.setLevel(AppLogger.Level.OFF);
+        double[] rawScores = randomScores(scores, 1);
+        GradingEngine engine = new GradingEngine();
+
+        System.out.printf("%s difficulty, %d scores per column, %d students per classroom, %d processors%n",
+                difficulty.getDifficultyLevel(), scores, roster, Runtime.getRuntime().availableProcessors());
+        System.out.printf("%-10s %14s %14s %10s%n", "mode", "best scores/s", "mean scores/s", "best ms");
+
+        List<Double> boxed = new ArrayList<>(scores);
+        for (double score : rawScores) {
+            boxed.add(score);
+        }
+        measure("per-score", scores, () -> {
+            List<Double> adjusted = new ArrayList<>(boxed.size());
+            for (Double score : boxed) {
+                adjusted.add(difficulty.calculateScoreAdjustment(score));
+            }
+            return adjusted.get(adjusted.size() - 1);
+        });
+        boxed.clear();
+
+        double[] adjusted = new double[scores];
+        measure("bulk", scores, () -> {
+            difficulty.adjustAll(rawScores, adjusted, 0, scores);
+            return adjusted[scores - 1];
+        });
+        measure("engine", scores, () -> {
+            engine.grade(difficulty, rawScores, adjusted);
+            return adjusted[scores - 1];
+        });
+
+        ClassroomManager manager = ClassroomManager.createStandalone();
+        try {
+            manager.setConsoleEcho(false);
+            manager.addClassroom("Graded");
+            manager.scheduleAssignment("Graded", "Quiz", "MCQ");
+            String[] studentIds = new String[roster];
+            List<EnrollmentRequest> enrollments = new ArrayList<>(roster);
+            for (int s = 0; s < roster; s++) {
+                studentIds[s] = "S" + s;
+                enrollments.add(new EnrollmentRequest(studentIds[s], "Student " + s, "Graded"));
+            }
+            manager.enrollAll(enrollments);
+            double[] classScores = randomScores(roster, 2);
+            measure("classroom", roster, () -> {
+                manager.gradeAssignment("Graded", "Quiz", difficulty, studentIds, classScores);
+                return manager.getScore(studentIds[roster - 1], "Graded", "Quiz");
+            });
+        } finally {
+            manager.shutdown();
+        }
+    }
+
+    private static void measure(String mode, int scoresPerRound, Round round) {
+        double sink = 0;
+        for (int i = 0; i < warmup; i++) {
+            sink += round.run();
+        }
+        long best = Long.MAX_VALUE;
+        long total = 0;
+        for (int i = 0; i < rounds; i++) {
+            long start = System.nanoTime();
+            sink += round.run();
+            long elapsed = System.nanoTime() - start;
+            best = Math.min(best, elapsed);
+            total += elapsed;
+        }
+        System.out.printf("%-10s %14.0f %14.0f %10.2f%n", mode, scoresPerRound * 1e9 / best,
+                scoresPerRound * 1e9 * rounds / total, best / 1e6);
+        if (Double.isInfinite(sink)) {
+            System.out.println(); // never true; keeps sink alive
+        }
+    }
+
+    private static double[] randomScores(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        double[] result = new double[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = random.nextDouble(0.0, 100.0);
+        }
+        return result;
+    }
+
+    private static void parseArgs(String[] args) {
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                AppLogger.logError(CLASS_NAME, "Ignoring argument: " + arg);
+                continue;
+            }
+            String key = arg.substring(2, eq);
+            String value = arg.substring(eq + 1);
+            switch (key) {
+                case "scores": scores = Integer.parseInt(value); break;
+                case "roster": roster = Integer.parseInt(value); break;
+                case "rounds": rounds = Integer.parseInt(value); break;
+                case "warmup": warmup = Integer.parseInt(value); break;
+                case "difficulty":
+                    if ("hard".equalsIgnoreCase(value)) {
+                        difficulty = new HardDifficulty();
+                    } else if ("easy".equalsIgnoreCase(value)) {
+                        difficulty = new EasyDifficulty();
+                    } else {
+                        AppLogger.logError(CLASS_NAME, "Unknown difficulty: " + value);
+                    }
+                    break;
+                default: AppLogger.logError(CLASS_NAME, "Unknown option: " + key);
+            }
+        }
+    }
+}
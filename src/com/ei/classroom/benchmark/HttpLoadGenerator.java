@@ -0,0 +1,185 @@
+package com.ei.classroom.benchmark;
+
+import com.ei.classroom.manager.ClassroomManager;
+import com.ei.classroom.server.ClassroomHttpServer;
+import com.ei.classroom.util.AppLogger;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+
+/**
+ * Load generator for the HTTP API.
+ * Without --url it starts a ClassroomHttpServer on a free localhost port backed by a
+ * standalone manager, so it doubles as an end-to-end check of the server. Every client
+ * thread reuses keep-alive connections and loops over enroll, submit, a submission lookup and
+ * a roster page, recording the latency of each request.
+ *
+ * Usage: java -cp bin com.ei.classroom.benchmark.HttpLoadGenerator
+ *            [--url=http://localhost:8080] [--clients=16] [--seconds=10] [--classrooms=10]
+ */
+public class HttpLoadGenerator {
+    private static final String CLASS_NAME = "HttpLoadGenerator";
+
+    private static String url;
+    private static int clients = 16;
+    private static int seconds = 10;
+    private static int classrooms = 10;
+
+    /** Latencies and failures recorded by one client thread. */
+    private static final class ClientStats {
+        private long[] latencies = new long[1 << 16];
+        private int count;
+        private int failures;
+        private String firstFailure;
+
+        private void record(long nanos, int status, String body) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            if (status >= 300) {
+                if (failures++ == 0) {
+                    firstFailure = status + " " + body;
+                }
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        parseArgs(args);
+        AppLogger.setLevel(AppLogger.Level.ERROR);
+        ClassroomHttpServer embedded = null;
+        ClassroomManager manager = null;
+        if (url == null) {
+            manager = ClassroomManager.createStandalone();
+            manager.setConsoleEcho(false);
+            embedded = new ClassroomHttpServer(manager, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            embedded.start();
+            url = "http://localhost:" + embedded.getPort();
+        }
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        try {
+            for (int c = 0; c < classrooms; c++) {
+                post(client, "/classrooms", "{\"name\":\"Load" + c + "\"}", null);
+                post(client, "/classrooms/Load" + c + "/assignments", "{\"name\":\"HW\",\"type\":\"MCQ\"}", null);
+            }
+            run(client);
+        } finally {
+            if (embedded != null) {
+                embedded.stop(0);
+                manager.shutdown();
+            }
+        }
+    }
+
+    private static void run(HttpClient client) throws InterruptedException {
+        ClientStats[] stats = new ClientStats[clients];
+        Thread[] threads = new Thread[clients];
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        for (int t = 0; t < clients; t++) {
+            ClientStats clientStats = new ClientStats();
+            stats[t] = clientStats;
+            int clientId = t;
+            threads[t] = new Thread(() -> clientLoop(client, clientId, deadline, clientStats), "load-client-" + t);
+        }
+        long start = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        int total = 0;
+        int failures = 0;
+        for (ClientStats clientStats : stats) {
+            total += clientStats.count;
+            failures += clientStats.failures;
+        }
+        long[] all = new long[total];
+        int offset = 0;
+        for (ClientStats clientStats : stats) {
+            System.arraycopy(clientStats.latencies, 0, all, offset, clientStats.count);
+            offset += clientStats.count;
+            if (clientStats.firstFailure != null) {
+                System.out.println("First failure: " + clientStats.firstFailure);
+            }
+        }
+        Arrays.sort(all);
+        System.out.printf("%d clients, %d requests in %.1f s: %.0f req/s, %d failed%n",
+                clients, total, elapsed / 1e9, total * 1e9 / elapsed, failures);
+        if (total > 0) {
+            System.out.printf("latency us: p50 %d, p90 %d, p99 %d, max %d%n",
+                    percentile(all, 0.50) / 1_000, percentile(all, 0.90) / 1_000,
+                    percentile(all, 0.99) / 1_000, all[total - 1] / 1_000);
+        }
+    }
+
+    private static void clientLoop(HttpClient client, int clientId, long deadline, ClientStats stats) {
+        try {
+            for (int i = 0; System.nanoTime() < deadline; i++) {
+                String className = "Load" + ((clientId + i) % classrooms);
+                String studentId = clientId + "-" + i;
+                post(client, "/classrooms/" + className + "/students",
+                        "{\"id\":\"" + studentId + "\",\"name\":\"Student " + studentId + "\"}", stats);
+                post(client, "/classrooms/" + className + "/assignments/HW/submissions",
+                        "{\"studentId\":\"" + studentId + "\"}", stats);
+                get(client, "/classrooms/" + className + "/assignments/HW/submissions/" + studentId, stats);
+                get(client, "/classrooms/" + className + "/students?limit=20", stats);
+            }
+        } catch (IOException e) {
+            AppLogger.logError(CLASS_NAME, "Client " + clientId + " stopped.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void post(HttpClient client, String path, String json, ClientStats stats)
+            throws IOException, InterruptedException {
+        send(client, HttpRequest.newBuilder(URI.create(url + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)).build(), stats);
+    }
+
+    private static void get(HttpClient client, String path, ClientStats stats) throws IOException, InterruptedException {
+        send(client, HttpRequest.newBuilder(URI.create(url + path)).GET().build(), stats);
+    }
+
+    private static void send(HttpClient client, HttpRequest request, ClientStats stats)
+            throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (stats != null) {
+            stats.record(System.nanoTime() - start, response.statusCode(), response.body());
+        }
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.round(fraction * (sorted.length - 1)))];
+    }
+
+    private static void parseArgs(String[] args) {
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                AppLogger.logError(CLASS_NAME, "Ignoring argument: " + arg);
+                continue;
+            }
+            String key = arg.substring(2, eq);
+            String value = arg.substring(eq + 1);
+            switch (key) {
+                case "url": url = value; break;
+                case "clients": clients = Integer.parseInt(value); break;
+                case "seconds": seconds = Integer.parseInt(value); break;
+                case "classrooms": classrooms = Integer.parseInt(value); break;
+                default: AppLogger.logError(CLASS_NAME, "Unknown option: " + key);
+            }
+        }
+    }
+}
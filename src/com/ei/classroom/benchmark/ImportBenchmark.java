@@ -0,0 +1,121 @@
+package com.ei.classroom.benchmark;
+
+import com.ei.classroom.importer.ImportReport;
+import com.ei.classroom.importer.RosterImporter;
+import com.ei.classroom.manager.ClassroomManager;
+import com.ei.classroom.util.AppLogger;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Measures RosterImporter end to end: writes a legacy roster file ("Name,ID,Class" lines,
+ * with a malformed line every --bad-every lines), then imports it into a fresh standalone
+ * manager once per round and reports lines per second. Each round checks that every good
+ * line was enrolled and every bad one rejected, and stops with an IllegalStateException if not.
+ *
+ * Usage: java -cp bin com.ei.classroom.benchmark.ImportBenchmark
+ *            [--lines=1000000] [--classrooms=100] [--bad-every=1000] (0: no bad lines)
+ *            [--workers=cores] [--chunk=8192] [--rounds=3] (the first rounds warm up the JIT)
+ *            [--file=path] (default: a temporary file, deleted afterwards)
+ */
+public class ImportBenchmark {
+    private static final String CLASS_NAME = "ImportBenchmark";
+
+    private static int lineCount = 1_000_000;
+    private static int classroomCount = 100;
+    private static int badEvery = 1_000;
+    private static int workers = Runtime.getRuntime().availableProcessors();
+    private static int chunkSize = 8192;
+    private static int rounds = 3;
+    private static Path file;
+
+    public static void main(String[] args) throws IOException {
+        parseArgs(args);
+        AppLogger.setLevel(AppLogger.Level.ERROR);
+        boolean temporary = file == null;
+        if (temporary) {
+            file = Files.createTempFile("roster-import", ".csv");
+        }
+        try {
+            long bad = writeRoster();
+            System.out.printf("%d lines (%d malformed) into %d classrooms, %d workers, chunks of %d%n",
+                    lineCount, bad, classroomCount, workers, chunkSize);
+            System.out.printf("%6s %12s %10s %10s %14s%n", "round", "enrolled", "rejected", "ms", "lines/s");
+            for (int round = 1; round <= rounds; round++) {
+                run(round, lineCount - bad, bad);
+            }
+        } finally {
+            if (temporary) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private static void run(int round, long expectedEnrolled, long expectedRejected) throws IOException {
+        ClassroomManager manager = ClassroomManager.createStandalone();
+        manager.setConsoleEcho(false);
+        try {
+            for (int c = 0; c < classroomCount; c++) {
+                manager.addClassroom(className(c));
+            }
+            ImportReport report = new RosterImporter(manager, chunkSize, workers).importFile(file, null);
+            if (report.getEnrolled() != expectedEnrolled || report.getRejected() != expectedRejected) {
+                throw new IllegalStateException("Expected " + expectedEnrolled + " enrolled and " + expectedRejected
+                        + " rejected. " + report);
+            }
+            System.out.printf("%6d %12d %10d %10.0f %14.0f%n", round, report.getEnrolled(), report.getRejected(),
+                    report.getLinesRead() * 1e3 / report.getLinesPerSecond(), report.getLinesPerSecond());
+        } finally {
+            manager.shutdown();
+        }
+    }
+
+    /**
+     * @return how many malformed lines were written.
+     */
+    private static long writeRoster() throws IOException {
+        long bad = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < lineCount; i++) {
+                if (badEvery > 0 && i % badEvery == badEvery - 1) {
+                    writer.write("Student " + i + " without an ID");
+                    bad++;
+                } else {
+                    writer.write("Student " + i + ",ID" + i + "," + className(i % classroomCount));
+                }
+                writer.newLine();
+            }
+        }
+        return bad;
+    }
+
+    private static String className(int index) {
+        return "Class" + index;
+    }
+
+    private static void parseArgs(String[] args) {
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                AppLogger.logError(CLASS_NAME, "Ignoring argument: " + arg);
+                continue;
+            }
+            String key = arg.substring(2, eq);
+            String value = arg.substring(eq + 1);
+            switch (key) {
+                case "lines": lineCount = Integer.parseInt(value); break;
+                case "classrooms": classroomCount = Integer.parseInt(value); break;
+                case "bad-every": badEvery = Integer.parseInt(value); break;
+                case "workers": workers = Integer.parseInt(value); break;
+                case "chunk": chunkSize = Integer.parseInt(value); break;
+                case "rounds": rounds = Integer.parseInt(value); break;
+                case "file": file = Paths.get(value); break;
+                default: AppLogger.logError(CLASS_NAME, "Unknown option: " + key);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.ei.classroom.benchmark;
+
+import com.ei.classroom.util.AppLogger;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Measures what a log call costs the calling thread: a call below the active level (which
+ * should be no more than the level check), and a call that is written through the async ring
+ * buffer to a file (which should be no more than copying the arguments into a slot). The
+ * async rows also report how long the writer thread then took to drain everything.
+ *
+ * Usage: java -cp bin com.ei.classroom.benchmark.LoggerBenchmark
+ *            [--calls=50000000] (per disabled row) [--async-calls=2000000]
+ *            [--file=path] (default: a temporary file, deleted afterwards)
+ */
+public class LoggerBenchmark {
+    private static final String CLASS_NAME = "LoggerBenchmark";
+    private static final String STUDENT = "S42";
+    private static final String CLASSROOM = "Math";
+
+    /** A batch of log calls; returns its elapsed nanoseconds. */
+    private interface Calls {
+        long run(int count);
+    }
+
+    private static int calls = 50_000_000;
+    private static int asyncCalls = 2_000_000;
+    private static Path file;
+
+    public static void main(String[] args) throws IOException {
+        parseArgs(args);
+        boolean temporary = file == null;
+        if (temporary) {
+            file = Files.createTempFile("logger-benchmark", ".log");
+        }
+        AppLogger.Level original = AppLogger.getLevel();
+        try {
+            System.out.printf("%-34s %12s %10s%n", "call", "calls", "ns/call");
+            AppLogger.setLevel(AppLogger.Level.INFO);
+            report("disabled debug, one placeholder", calls, LoggerBenchmark::disabledPlaceholder);
+            report("disabled debug, supplier", calls, LoggerBenchmark::disabledSupplier);
+            AppLogger.setLevel(AppLogger.Level.ERROR);
+            report("disabled info, two placeholders", calls, LoggerBenchmark::enabledTwoPlaceholders);
+
+            AppLogger.setLevel(AppLogger.Level.INFO);
+            for (int round = 0; round < 3; round++) { // the first rounds warm up the JIT
+                AppLogger.startAsync(file);
+                long elapsed = enabledTwoPlaceholders(asyncCalls);
+                long drainStart = System.nanoTime();
+                AppLogger.shutdown(); // flushes the ring
+                long drained = System.nanoTime() - drainStart;
+                if (round == 2) {
+                    print("async info to file, caller", asyncCalls, elapsed);
+                    print("async info to file, incl. drain", asyncCalls, elapsed + drained);
+                }
+            }
+        } finally {
+            AppLogger.shutdown();
+            AppLogger.setLevel(original);
+            if (temporary) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private static long disabledPlaceholder(int count) {
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            AppLogger.logDebug(CLASS_NAME, "Student {} enrolled", STUDENT);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long disabledSupplier(int count) {
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            AppLogger.logDebug(CLASS_NAME, () -> "Student " + STUDENT + " enrolled");
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long enabledTwoPlaceholders(int count) {
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            AppLogger.logInfo(CLASS_NAME, "Student {} enrolled in {}", STUDENT, CLASSROOM);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static void report(String name, int count, Calls batch) {
+        for (int round = 0; round < 2; round++) { // warm up the JIT
+            batch.run(count);
+        }
+        print(name, count, batch.run(count));
+    }
+
+    private static void print(String name, int count, long elapsedNanos) {
+        System.out.printf("%-34s %12d %10.2f%n", name, count, (double) elapsedNanos / count);
+    }
+
+    private static void parseArgs(String[] args) {
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                AppLogger.logError(CLASS_NAME, "Ignoring argument: " + arg);
+                continue;
+            }
+            String key = arg.substring(2, eq);
+            String value = arg.substring(eq + 1);
+            switch (key) {
+                case "calls": calls = Integer.parseInt(value); break;
+                case "async-calls": asyncCalls = Integer.parseInt(value); break;
+                case "file": file = Paths.get(value); break;
+                default: AppLogger.logError(CLASS_NAME, "Unknown option: " + key);
+            }
+        }
+    }
+}
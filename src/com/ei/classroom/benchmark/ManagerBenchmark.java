@@ -0,0 +1,177 @@
+package com.ei.classroom.benchmark;
+
+import com.ei.classroom.manager.ClassroomManager;
+import com.ei.classroom.observer.SubmissionEvent;
+import com.ei.classroom.observer.Teacher;
+import com.ei.classroom.util.AppLogger;
+import com.ei.classroom.view.ConsoleRenderer;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Micro-benchmark for the ClassroomManager hot paths.
+ * Runs every combination of the parameter lists against a fresh standalone manager and reports,
+ * per operation, throughput, latency percentiles and bytes allocated by the calling thread.
+ * Console output of the manager is discarded and logging is switched off while measuring.
+ * Every measured submit is a first submission: the fixture is sized to the iteration count.
+ *
+ * Usage: java -cp bin com.ei.classroom.benchmark.ManagerBenchmark
+ *            [--classrooms=10,100] [--roster=100,1000] [--assignments=10] [--observers=1,8]
+ *            [--iterations=20000] [--warmup=5000]
+ */
+public class ManagerBenchmark {
+    private static final String CLASS_NAME = "ManagerBenchmark";
+
+    /** A single benchmarked call; index is unique across warmup and measured iterations. */
+    private interface Operation {
+        void run(int index);
+    }
+
+    private static int[] classroomCounts = {10, 100};
+    private static int[] rosterSizes = {100, 1000};
+    private static int[] assignmentCounts = {10};
+    private static int[] observerCounts = {1, 8};
+    private static int iterations = 20_000;
+    private static int warmup = 5_000;
+
+    public static void main(String[] args) {
+        parseArgs(args);
+        PrintStream console = System.out;
+        AppLogger.setLevel(AppLogger.Level.OFF);
+
+        console.printf("%-14s %10s %8s %11s %10s %14s %10s %10s %10s %10s %12s%n",
+                "operation", "classrooms", "roster", "assignments", "observers",
+                "ops/s", "p50 ns", "p90 ns", "p99 ns", "max ns", "bytes/op");
+        for (int classrooms : classroomCounts) {
+            for (int roster : rosterSizes) {
+                for (int assignments : assignmentCounts) {
+                    for (int observers : observerCounts) {
+                        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+                        List<String> rows;
+                        try {
+                            rows = runScenario(classrooms, roster, assignments, observers);
+                        } finally {
+                            System.setOut(console);
+                        }
+                        rows.forEach(console::println);
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<String> runScenario(int classrooms, int roster, int assignments, int observers) {
+        ClassroomManager manager = ClassroomManager.createStandalone();
+        List<String> rows = new ArrayList<>();
+        try {
+            for (int i = 1; i < observers; i++) { // the manager already has one admin teacher
+                manager.addTeacher(new Teacher("Teacher " + i));
+            }
+            for (int c = 0; c < classrooms; c++) {
+                manager.addClassroom(className(c));
+                for (int s = 0; s < roster; s++) {
+                    manager.enrollStudent(studentId(c, s), "Student " + s, className(c));
+                }
+                for (int a = 0; a < assignments; a++) {
+                    manager.scheduleAssignment(className(c), "A" + a, "MCQ");
+                }
+            }
+            String params = String.format("%10d %8d %11d %10d", classrooms, roster, assignments, observers);
+
+            rows.add(measure("enroll", params, i ->
+                    manager.enrollStudent("N" + i, "New " + i, className(i % classrooms))));
+            rows.add(measure("schedule", params, i ->
+                    manager.scheduleAssignment(className(i % classrooms), "B" + i, "ESSAY")));
+
+            // Every submit call must be a first submission, so enough extra assignments are
+            // scheduled for each (student, assignment) pair to be used once.
+            int students = classrooms * roster;
+            int submitAssignments = (warmup + iterations + students - 1) / students;
+            for (int c = 0; c < classrooms; c++) {
+                for (int a = 0; a < submitAssignments; a++) {
+                    manager.scheduleAssignment(className(c), "Sub" + a, "MCQ");
+                }
+            }
+            rows.add(measure("submit", params, i -> {
+                int c = i % classrooms;
+                int s = (i / classrooms) % roster;
+                int a = i / students;
+                manager.submitAssignment(studentId(c, s), className(c), "Sub" + a);
+            }));
+            ConsoleRenderer renderer = new ConsoleRenderer();
+            rows.add(measure("listClassrooms", params, i -> renderer.renderClassrooms(manager)));
+
+            SubmissionEvent event = new SubmissionEvent("S", className(0), "A0", "Multiple Choice Quiz", 0L);
+            rows.add(measure("observerFanout", params, i -> manager.getEventBus().notifyObservers(event)));
+        } finally {
+            manager.shutdown();
+        }
+        return rows;
+    }
+
+    private static String measure(String name, String params, Operation operation) {
+        for (int i = 0; i < warmup; i++) {
+            operation.run(i);
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long[] latencies = new long[iterations];
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            long t0 = System.nanoTime();
+            operation.run(warmup + i);
+            latencies[i] = System.nanoTime() - t0;
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        Arrays.sort(latencies);
+        return String.format("%-14s %s %14.0f %10d %10d %10d %10d %12d",
+                name, params, iterations * 1e9 / elapsed,
+                percentile(latencies, 0.50), percentile(latencies, 0.90), percentile(latencies, 0.99),
+                latencies[iterations - 1], allocated / iterations);
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.round(fraction * (sorted.length - 1)))];
+    }
+
+    private static String className(int index) {
+        return "Class" + index;
+    }
+
+    private static String studentId(int classIndex, int studentIndex) {
+        return "S" + classIndex + "_" + studentIndex;
+    }
+
+    private static void parseArgs(String[] args) {
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                AppLogger.logError(CLASS_NAME, "Ignoring argument: " + arg);
+                continue;
+            }
+            String key = arg.substring(2, eq);
+            String value = arg.substring(eq + 1);
+            switch (key) {
+                case "classrooms": classroomCounts = parseList(value); break;
+                case "roster": rosterSizes = parseList(value); break;
+                case "assignments": assignmentCounts = parseList(value); break;
+                case "observers": observerCounts = parseList(value); break;
+                case "iterations": iterations = Integer.parseInt(value); break;
+                case "warmup": warmup = Integer.parseInt(value); break;
+                default: AppLogger.logError(CLASS_NAME, "Unknown option: " + key);
+            }
+        }
+    }
+
+    private static int[] parseList(String value) {
+        return Arrays.stream(value.split(",")).mapToInt(v -> Integer.parseInt(v.trim())).toArray();
+    }
+}
@@ -0,0 +1,189 @@
+package com.ei.classroom.command;
+
+import com.ei.classroom.manager.ClassroomManager;
+import com.ei.classroom.model.Assignment;
+import com.ei.classroom.model.ClassroomSummary;
+import com.ei.classroom.model.Page;
+import com.ei.classroom.model.Student;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Parses and runs one line of the classroom command protocol against a ClassroomManager.
+ *
+ * A command is a single line of fields separated by '|' (surrounding spaces are ignored),
+ * the first field being the case-insensitive command name:
+ * <pre>
+ * ADD_CLASS|name
+ * ENROLL|studentId|studentName|class
+ * UNENROLL|studentId|class
+ * SCHEDULE|class|assignment|type[|due]  (type: MCQ, ESSAY, PRACTICAL or a registered kind; due: e.g. 2025-06-01T17:00:00Z)
+ * SUBMIT|studentId|class|assignment
+ * LIST_CLASSES
+ * LIST_STUDENTS|class[|cursor[|limit]]
+ * PING
+ * </pre>
+ * Every command produces exactly one response: "OK", "ERR message", or for the listings
+ * "OK count" (plus the next cursor, or -1, for LIST_STUDENTS) followed by count data lines
+ * of '|'-separated fields. Blank lines and lines starting with '#' are ignored and produce
+ * no response. Lines are split by hand rather than with a regular expression, since this
+ * sits on the hot path of every scripted client.
+ *
+ * Thread-safe as long as the manager is; it keeps no state of its own.
+ */
+public class CommandProcessor {
+    private static final int MAX_FIELDS = 5;
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
+    private final ClassroomManager manager;
+
+    public CommandProcessor(ClassroomManager manager) {
+        this.manager = manager;
+    }
+
+    /**
+     * Runs one command line and appends its response lines, each ending in '\n'.
+     * @return false if the line was blank or a comment and nothing was run.
+     */
+    public boolean execute(String line, StringBuilder response) {
+        String[] fields = new String[MAX_FIELDS];
+        int count = split(line, fields);
+        if (count == 0 || fields[0].startsWith("#")) {
+            return false;
+        }
+        try {
+            run(fields, count, response);
+        } catch (NoSuchElementException | IllegalArgumentException | IllegalStateException e) {
+            appendError(response, e.getMessage());
+        }
+        return true;
+    }
+
+    private void run(String[] fields, int count, StringBuilder response) {
+        String command = fields[0];
+        if (is(command, "ENROLL")) {
+            require(fields, count, 4, "ENROLL|studentId|studentName|class");
+            manager.enrollStudent(fields[1], fields[2], fields[3]);
+            response.append("OK\n");
+        } else if (is(command, "SUBMIT")) {
+            require(fields, count, 4, "SUBMIT|studentId|class|assignment");
+            manager.submitAssignment(fields[1], fields[2], fields[3]);
+            response.append("OK\n");
+        } else if (is(command, "SCHEDULE")) {
+            require(fields, count, 4, "SCHEDULE|class|assignment|type[|due]");
+            long dueAt = count > 4 && !fields[4].isEmpty() ? parseInstant(fields[4]) : Assignment.NO_DUE_DATE;
+            manager.scheduleAssignment(fields[1], fields[2], fields[3], dueAt);
+            response.append("OK\n");
+        } else if (is(command, "ADD_CLASS")) {
+            require(fields, count, 2, "ADD_CLASS|name");
+            if (!manager.addClassroom(fields[1])) {
+                throw new IllegalStateException("Classroom [" + fields[1] + "] already exists.");
+            }
+            response.append("OK\n");
+        } else if (is(command, "UNENROLL")) {
+            require(fields, count, 3, "UNENROLL|studentId|class");
+            manager.unenrollStudent(fields[1], fields[2]);
+            response.append("OK\n");
+        } else if (is(command, "LIST_CLASSES")) {
+            listClasses(response);
+        } else if (is(command, "LIST_STUDENTS")) {
+            require(fields, count, 2, "LIST_STUDENTS|class[|cursor[|limit]]");
+            int cursor = count > 2 ? Integer.parseInt(fields[2]) : 0;
+            int limit = count > 3 ? Integer.parseInt(fields[3]) : DEFAULT_PAGE_SIZE;
+            listStudents(manager.getStudentsInClass(fields[1], cursor, limit), response);
+        } else if (is(command, "PING")) {
+            response.append("OK\n");
+        } else {
+            throw new IllegalArgumentException("Unknown command: " + command);
+        }
+    }
+
+    private void listClasses(StringBuilder response) {
+        int headerStart = response.length();
+        int rows = 0;
+        Iterator<ClassroomSummary> classrooms = manager.classroomSummaries().iterator();
+        while (classrooms.hasNext()) {
+            ClassroomSummary classroom = classrooms.next();
+            response.append(classroom.getName()).append('|').append(classroom.getEnrolledCount())
+                    .append('|').append(classroom.getAssignmentCount()).append('\n');
+            rows++;
+        }
+        response.insert(headerStart, "OK " + rows + "\n");
+    }
+
+    private static void listStudents(Page<Student> page, StringBuilder response) {
+        response.append("OK ").append(page.getItems().size()).append(' ').append(page.getNextCursor()).append('\n');
+        for (Student student : page.getItems()) {
+            response.append(student.getId()).append('|').append(student.getName()).append('\n');
+        }
+    }
+
+    /**
+     * @return the ISO-8601 instant (such as 2025-06-01T17:00:00Z) in epoch milliseconds.
+     */
+    private static long parseInstant(String text) {
+        try {
+            return Instant.parse(text).toEpochMilli();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid due date '" + text + "'. Use e.g. 2025-06-01T17:00:00Z.");
+        }
+    }
+
+    private static void appendError(StringBuilder response, String message) {
+        response.append("ERR ");
+        if (message != null) {
+            for (int i = 0; i < message.length(); i++) {
+                char c = message.charAt(i);
+                response.append(c == '\n' || c == '\r' ? ' ' : c);
+            }
+        }
+        response.append('\n');
+    }
+
+    private static boolean is(String command, String name) {
+        return command.length() == name.length() && command.regionMatches(true, 0, name, 0, name.length());
+    }
+
+    private static void require(String[] fields, int count, int expected, String usage) {
+        if (count < expected) {
+            throw new IllegalArgumentException("Usage: " + usage);
+        }
+        for (int i = 1; i < expected; i++) {
+            if (fields[i].isEmpty()) {
+                throw new IllegalArgumentException("Usage: " + usage);
+            }
+        }
+    }
+
+    /**
+     * Splits on '|' and trims each field; fields past MAX_FIELDS stay in the last one.
+     * @return the number of fields, 0 for a blank line.
+     */
+    static int split(String line, String[] fields) {
+        int length = line.length();
+        int count = 0;
+        int start = 0;
+        while (true) {
+            int end = count == fields.length - 1 ? -1 : line.indexOf('|', start);
+            if (end < 0) {
+                end = length;
+            }
+            int from = start;
+            int to = end;
+            while (from < to && line.charAt(from) <= ' ') {
+                from++;
+            }
+            while (to > from && line.charAt(to - 1) <= ' ') {
+                to--;
+            }
+            fields[count++] = line.substring(from, to);
+            if (end == length) {
+                break;
+            }
+            start = end + 1;
+        }
+        return count == 1 && fields[0].isEmpty() ? 0 : count;
+    }
+}
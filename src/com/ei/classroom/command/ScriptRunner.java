@@ -0,0 +1,64 @@
+package com.ei.classroom.command;
+
+import com.ei.classroom.manager.ClassroomManager;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+
+/**
+ * Runs a file of CommandProcessor commands non-interactively.
+ * Plain "OK" responses are dropped; errors (prefixed with their line number) and listing
+ * output are collected and written in large chunks, so a long script costs a handful of
+ * console writes rather than one or more per command. A throughput summary ends the run.
+ */
+public class ScriptRunner {
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+
+    private final CommandProcessor processor;
+    private final PrintStream out;
+
+    public ScriptRunner(ClassroomManager manager, PrintStream out) {
+        this.processor = new CommandProcessor(manager);
+        this.out = out;
+    }
+
+    /**
+     * Runs every line of the reader.
+     * @return the number of commands that failed.
+     */
+    public long run(BufferedReader reader) throws IOException {
+        StringBuilder output = new StringBuilder(FLUSH_THRESHOLD + 1024);
+        StringBuilder response = new StringBuilder(256);
+        long lineNumber = 0;
+        long commands = 0;
+        long errors = 0;
+        long start = System.nanoTime();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            response.setLength(0);
+            if (!processor.execute(line, response)) {
+                continue;
+            }
+            commands++;
+            if (response.length() == 3 && response.charAt(0) == 'O' && response.charAt(1) == 'K') {
+                continue; // plain "OK\n"
+            }
+            if (response.charAt(0) == 'E') {
+                errors++;
+                output.append("line ").append(lineNumber).append(": ");
+            }
+            output.append(response);
+            if (output.length() >= FLUSH_THRESHOLD) {
+                out.append(output);
+                output.setLength(0);
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        out.append(output);
+        out.printf("Script finished: %d commands (%d failed) from %d lines in %.1f ms, %.0f commands/s.%n",
+                commands, errors, lineNumber, elapsed / 1e6, commands * 1e9 / Math.max(1, elapsed));
+        out.flush();
+        return errors;
+    }
+}
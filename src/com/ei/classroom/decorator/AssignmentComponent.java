@@ -0,0 +1,33 @@
+package com.ei.classroom.decorator;
+
+import com.ei.classroom.model.Assignment;
+
+/**
+ * Component of the assignment decorator chain.
+ * Decorators render by appending to the builder passed down the chain, so a chain of any
+ * depth produces its details in one pass over one StringBuilder.
+ */
+public interface AssignmentComponent {
+    String getName();
+
+    /**
+     * @return the assignment at the core of the chain.
+     */
+    Assignment getAssignment();
+
+    /**
+     * Appends the details of this component, including everything it wraps.
+     */
+    void appendDetails(StringBuilder out);
+
+    /**
+     * @return a number that changes whenever the details would render differently.
+     */
+    int getVersion();
+
+    default String getDetails() {
+        StringBuilder details = new StringBuilder(128);
+        appendDetails(details);
+        return details.toString();
+    }
+}
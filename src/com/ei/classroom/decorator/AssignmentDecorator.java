@@ -0,0 +1,35 @@
+package com.ei.classroom.decorator;
+
+import com.ei.classroom.model.Assignment;
+
+/**
+ * Base decorator: delegates everything to the wrapped component.
+ * Decorators add fixed text, so a chain's version is that of the assignment at its core.
+ */
+public abstract class AssignmentDecorator implements AssignmentComponent {
+    protected final AssignmentComponent decoratedAssignment;
+
+    protected AssignmentDecorator(AssignmentComponent decoratedAssignment) {
+        this.decoratedAssignment = decoratedAssignment;
+    }
+
+    @Override
+    public String getName() {
+        return decoratedAssignment.getName();
+    }
+
+    @Override
+    public Assignment getAssignment() {
+        return decoratedAssignment.getAssignment();
+    }
+
+    @Override
+    public void appendDetails(StringBuilder out) {
+        decoratedAssignment.appendDetails(out);
+    }
+
+    @Override
+    public int getVersion() {
+        return decoratedAssignment.getVersion();
+    }
+}
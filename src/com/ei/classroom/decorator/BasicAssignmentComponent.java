@@ -0,0 +1,34 @@
+package com.ei.classroom.decorator;
+
+import com.ei.classroom.model.Assignment;
+
+/**
+ * Concrete component: wraps an Assignment of the model.
+ */
+public class BasicAssignmentComponent implements AssignmentComponent {
+    private final Assignment assignment;
+
+    public BasicAssignmentComponent(Assignment assignment) {
+        this.assignment = assignment;
+    }
+
+    @Override
+    public String getName() {
+        return assignment.getName();
+    }
+
+    @Override
+    public Assignment getAssignment() {
+        return assignment;
+    }
+
+    @Override
+    public void appendDetails(StringBuilder out) {
+        assignment.appendDetails(out);
+    }
+
+    @Override
+    public int getVersion() {
+        return assignment.getVersion();
+    }
+}
@@ -0,0 +1,43 @@
+package com.ei.classroom.decorator;
+
+/**
+ * Outermost decorator for chains that are rendered over and over, such as assignment feeds.
+ * The details of the whole chain are rendered once and reused until the assignment's version
+ * changes, so repeated rendering costs a version check instead of a walk down the chain.
+ * Thread-safe: the text and the version it was rendered at are published together.
+ */
+public class CachedDetailsDecorator extends AssignmentDecorator {
+    private volatile Rendered rendered;
+
+    public CachedDetailsDecorator(AssignmentComponent decoratedAssignment) {
+        super(decoratedAssignment);
+    }
+
+    @Override
+    public String getDetails() {
+        // The version is read before rendering, so text rendered during a state change is
+        // filed under the older version and replaced on the next call.
+        int version = decoratedAssignment.getVersion();
+        Rendered current = rendered;
+        if (current == null || current.version != version) {
+            current = new Rendered(version, decoratedAssignment.getDetails());
+            rendered = current;
+        }
+        return current.text;
+    }
+
+    @Override
+    public void appendDetails(StringBuilder out) {
+        out.append(getDetails());
+    }
+
+    private static final class Rendered {
+        private final int version;
+        private final String text;
+
+        private Rendered(int version, String text) {
+            this.version = version;
+            this.text = text;
+        }
+    }
+}
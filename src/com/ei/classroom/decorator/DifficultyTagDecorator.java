@@ -0,0 +1,19 @@
+package com.ei.classroom.decorator;
+
+/**
+ * Adds a difficulty tag to the details.
+ */
+public class DifficultyTagDecorator extends AssignmentDecorator {
+    private final String tag;
+
+    public DifficultyTagDecorator(AssignmentComponent decoratedAssignment, String difficulty) {
+        super(decoratedAssignment);
+        this.tag = " | Difficulty: " + difficulty;
+    }
+
+    @Override
+    public void appendDetails(StringBuilder out) {
+        decoratedAssignment.appendDetails(out);
+        out.append(tag);
+    }
+}
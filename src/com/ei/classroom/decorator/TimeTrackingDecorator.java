@@ -0,0 +1,31 @@
+package com.ei.classroom.decorator;
+
+import com.ei.classroom.factory.AssignmentFactory;
+import com.ei.classroom.factory.AssignmentKind;
+
+/**
+ * Adds a time limit to the details: by default that of the assignment's registered kind.
+ */
+public class TimeTrackingDecorator extends AssignmentDecorator {
+    private final String timeLimit;
+
+    public TimeTrackingDecorator(AssignmentComponent decoratedAssignment) {
+        this(decoratedAssignment, AssignmentFactory.kindOf(decoratedAssignment.getAssignment()));
+    }
+
+    /**
+     * @param kind whose time limit to show, or null for none.
+     */
+    public TimeTrackingDecorator(AssignmentComponent decoratedAssignment, AssignmentKind kind) {
+        super(decoratedAssignment);
+        this.timeLimit = kind != null && kind.isTimed()
+                ? " | Time Limit: " + kind.getTimeLimitMinutes() + " mins"
+                : " | Time Limit: none";
+    }
+
+    @Override
+    public void appendDetails(StringBuilder out) {
+        decoratedAssignment.appendDetails(out);
+        out.append(timeLimit);
+    }
+}
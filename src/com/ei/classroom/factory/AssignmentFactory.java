@@ -2,23 +2,94 @@ package com.ei.classroom.factory;
 
 import com.ei.classroom.model.Assignment;
 import com.ei.classroom.util.AppLogger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
+/**
+ * Creates assignments of the kinds registered with it (Factory Pattern).
+ * The built-in kinds of AssignmentType are registered up front; further kinds, with their own
+ * time limit and max score, can be registered at startup without touching this class.
+ * Kinds are resolved by code or type name, ignoring case, through a table that is rebuilt on
+ * every registration and only read otherwise, so a lookup takes no lock, allocates nothing
+ * and answers null for an unknown type instead of throwing.
+ */
 public class AssignmentFactory {
     private static final String CLASS_NAME = "AssignmentFactory";
 
-    public static Assignment createAssignment(AssignmentType type, String name, String className) {
-        AppLogger.logDebug(CLASS_NAME, "Creating new assignment of type: " + type.name());
-        
-        switch (type) {
-            case MCQ:
-                return new Assignment(name, className, "Multiple Choice Quiz");
-            case ESSAY:
-                return new Assignment(name, className, "Essay Submission");
-            case PRACTICAL:
-                return new Assignment(name, className, "Practical Project");
-            default:
-                AppLogger.logError(CLASS_NAME, "Unsupported AssignmentType: " + type.name());
-                throw new IllegalArgumentException("Unsupported assignment type: " + type.name());
+    // code and type name -> kind; replaced wholesale under the class lock by register()
+    private static volatile Map<String, AssignmentKind> lookup = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private static volatile List<AssignmentKind> kinds = Collections.emptyList();
+
+    static {
+        register(new AssignmentKind(AssignmentType.MCQ.name(), "Multiple Choice Quiz", AssignmentKind.NO_TIME_LIMIT, 100));
+        register(new AssignmentKind(AssignmentType.ESSAY.name(), "Essay Submission", AssignmentKind.NO_TIME_LIMIT, 100));
+        register(new AssignmentKind(AssignmentType.PRACTICAL.name(), "Practical Project", AssignmentKind.NO_TIME_LIMIT, 100));
+    }
+
+    /**
+     * Makes a new kind available to findKind() and createAssignment().
+     * @throws IllegalStateException if its code or type name is already taken, ignoring case.
+     */
+    public static synchronized void register(AssignmentKind kind) {
+        if (lookup.containsKey(kind.getCode()) || lookup.containsKey(kind.getTypeName())) {
+            throw new IllegalStateException("Assignment kind '" + kind.getCode() + "' clashes with a registered kind.");
+        }
+        TreeMap<String, AssignmentKind> table = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        table.putAll(lookup);
+        table.put(kind.getCode(), kind);
+        table.put(kind.getTypeName(), kind);
+        List<AssignmentKind> registered = new ArrayList<>(kinds);
+        registered.add(kind);
+        lookup = table;
+        kinds = Collections.unmodifiableList(registered);
+        AppLogger.logDebug(CLASS_NAME, "Assignment kind registered: {}", kind);
+    }
+
+    /**
+     * @param codeOrTypeName e.g. "mcq" or "Multiple Choice Quiz", in any case.
+     * @return the registered kind, or null if there is none (or the argument is null).
+     */
+    public static AssignmentKind findKind(String codeOrTypeName) {
+        return codeOrTypeName == null ? null : lookup.get(codeOrTypeName);
+    }
+
+    /**
+     * @return the kind the assignment was created as, or null if it is not registered (any more).
+     */
+    public static AssignmentKind kindOf(Assignment assignment) {
+        return lookup.get(assignment.getType());
+    }
+
+    /**
+     * @return every registered kind, in registration order.
+     */
+    public static List<AssignmentKind> getKinds() {
+        return kinds;
+    }
+
+    /**
+     * @return the registered codes for error messages, e.g. "MCQ, ESSAY, PRACTICAL".
+     */
+    public static String describeKinds() {
+        StringBuilder codes = new StringBuilder();
+        for (AssignmentKind kind : kinds) {
+            if (codes.length() > 0) {
+                codes.append(", ");
+            }
+            codes.append(kind.getCode());
         }
+        return codes.toString();
+    }
+
+    public static Assignment createAssignment(AssignmentKind kind, String name, String className) {
+        AppLogger.logDebug(CLASS_NAME, "Creating new assignment of type: {}", kind);
+        return new Assignment(name, className, kind.getTypeName());
+    }
+
+    public static Assignment createAssignment(AssignmentType type, String name, String className) {
+        return createAssignment(findKind(type.name()), name, className);
     }
-}
\ No newline at end of file
+}
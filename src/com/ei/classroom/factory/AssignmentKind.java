@@ -0,0 +1,61 @@
+package com.ei.classroom.factory;
+
+/**
+ * One kind of assignment the factory can create: the code it is requested by (e.g. "MCQ"),
+ * the type name its assignments carry (e.g. "Multiple Choice Quiz") and the defaults that
+ * come with the kind. Immutable; make a kind available with AssignmentFactory.register().
+ */
+public final class AssignmentKind {
+    /** getTimeLimitMinutes() of a kind that is not timed. */
+    public static final int NO_TIME_LIMIT = 0;
+
+    private final String code;
+    private final String typeName;
+    private final int timeLimitMinutes;
+    private final double maxScore;
+
+    /**
+     * @param code what callers ask for, matched ignoring case.
+     * @param typeName what Assignment.getType() returns for assignments of this kind.
+     */
+    public AssignmentKind(String code, String typeName, int timeLimitMinutes, double maxScore) {
+        if (code == null || code.trim().isEmpty() || typeName == null || typeName.trim().isEmpty()) {
+            throw new IllegalArgumentException("An assignment kind needs a code and a type name.");
+        }
+        if (timeLimitMinutes < 0 || !(maxScore > 0)) {
+            throw new IllegalArgumentException("Time limit must not be negative and max score must be positive.");
+        }
+        this.code = code;
+        this.typeName = typeName;
+        this.timeLimitMinutes = timeLimitMinutes;
+        this.maxScore = maxScore;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getTypeName() {
+        return typeName;
+    }
+
+    /**
+     * @return the time allowed once started, or NO_TIME_LIMIT.
+     */
+    public int getTimeLimitMinutes() {
+        return timeLimitMinutes;
+    }
+
+    public boolean isTimed() {
+        return timeLimitMinutes != NO_TIME_LIMIT;
+    }
+
+    public double getMaxScore() {
+        return maxScore;
+    }
+
+    @Override
+    public String toString() {
+        return code;
+    }
+}
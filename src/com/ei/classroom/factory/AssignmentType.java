@@ -1,7 +1,10 @@
 package com.ei.classroom.factory;
 
+/**
+ * The kinds of assignment built into AssignmentFactory; others can be registered at startup.
+ */
 public enum AssignmentType {
     MCQ,
     ESSAY,
     PRACTICAL
-}
\ No newline at end of file
+}
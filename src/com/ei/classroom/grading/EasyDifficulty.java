@@ -0,0 +1,26 @@
+package com.ei.classroom.grading;
+
+/**
+ * Boosts scores slightly for easy quizzes, capped at the maximum score.
+ */
+public class EasyDifficulty implements QuizDifficultyStrategy {
+    private static final double BONUS = 1.05;
+    private static final double MAX_SCORE = 100.0;
+
+    @Override
+    public String getDifficultyLevel() {
+        return "Easy";
+    }
+
+    @Override
+    public double calculateScoreAdjustment(double baseScore) {
+        return Math.min(MAX_SCORE, baseScore * BONUS);
+    }
+
+    @Override
+    public void adjustAll(double[] rawScores, double[] adjusted, int from, int to) {
+        for (int i = from; i < to; i++) {
+            adjusted[i] = Math.min(MAX_SCORE, rawScores[i] * BONUS);
+        }
+    }
+}
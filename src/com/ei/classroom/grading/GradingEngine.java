@@ -0,0 +1,109 @@
+package com.ei.classroom.grading;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Applies a QuizDifficultyStrategy to whole columns of raw scores.
+ * Small columns are adjusted on the calling thread; larger ones are split into ranges of at
+ * least PARALLEL_THRESHOLD scores and adjusted on a fork/join pool. Either way each range is a
+ * single adjustAll call, so the per-score cost is the strategy's loop body and nothing else.
+ * Thread-safe as long as the strategy is stateless, which the built-in ones are.
+ */
+public class GradingEngine {
+    /** Below twice this many scores, splitting costs more than it saves. */
+    public static final int PARALLEL_THRESHOLD = 1 << 15;
+    /** The maxScore that leaves adjusted scores uncapped. */
+    public static final double NO_MAX_SCORE = Double.POSITIVE_INFINITY;
+
+    private final ForkJoinPool pool;
+
+    public GradingEngine() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public GradingEngine(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * @return a new column with the adjusted score of every raw score (NaN stays NaN).
+     */
+    public double[] grade(QuizDifficultyStrategy strategy, double[] rawScores) {
+        return grade(strategy, rawScores, NO_MAX_SCORE);
+    }
+
+    /**
+     * @return a new column with the adjusted score of every raw score, none above maxScore
+     *         (NaN stays NaN).
+     */
+    public double[] grade(QuizDifficultyStrategy strategy, double[] rawScores, double maxScore) {
+        double[] adjusted = new double[rawScores.length];
+        grade(strategy, rawScores, adjusted, maxScore);
+        return adjusted;
+    }
+
+    /**
+     * Writes the adjusted score of rawScores[i] to adjusted[i]; the arrays may be the same.
+     */
+    public void grade(QuizDifficultyStrategy strategy, double[] rawScores, double[] adjusted) {
+        grade(strategy, rawScores, adjusted, NO_MAX_SCORE);
+    }
+
+    /**
+     * Like grade(strategy, rawScores, adjusted), capping each adjusted score at maxScore.
+     */
+    public void grade(QuizDifficultyStrategy strategy, double[] rawScores, double[] adjusted, double maxScore) {
+        if (adjusted.length < rawScores.length) {
+            throw new IllegalArgumentException("Output column is shorter than the input column.");
+        }
+        int length = rawScores.length;
+        if (length < 2 * PARALLEL_THRESHOLD || pool.getParallelism() < 2) {
+            adjustRange(strategy, rawScores, adjusted, 0, length, maxScore);
+        } else {
+            pool.invoke(new GradeTask(strategy, rawScores, adjusted, 0, length, maxScore));
+        }
+    }
+
+    private static void adjustRange(QuizDifficultyStrategy strategy, double[] rawScores, double[] adjusted,
+            int from, int to, double maxScore) {
+        strategy.adjustAll(rawScores, adjusted, from, to);
+        if (maxScore != NO_MAX_SCORE) {
+            for (int i = from; i < to; i++) { // while the range is still in cache
+                adjusted[i] = Math.min(maxScore, adjusted[i]); // keeps NaN
+            }
+        }
+    }
+
+    private static final class GradeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final QuizDifficultyStrategy strategy;
+        private final double[] rawScores;
+        private final double[] adjusted;
+        private final int from;
+        private final int to;
+        private final double maxScore;
+
+        private GradeTask(QuizDifficultyStrategy strategy, double[] rawScores, double[] adjusted, int from, int to,
+                double maxScore) {
+            this.strategy = strategy;
+            this.rawScores = rawScores;
+            this.adjusted = adjusted;
+            this.from = from;
+            this.to = to;
+            this.maxScore = maxScore;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from < 2 * PARALLEL_THRESHOLD) {
+                adjustRange(strategy, rawScores, adjusted, from, to, maxScore);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new GradeTask(strategy, rawScores, adjusted, from, middle, maxScore),
+                    new GradeTask(strategy, rawScores, adjusted, middle, to, maxScore));
+        }
+    }
+}
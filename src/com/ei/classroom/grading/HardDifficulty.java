@@ -0,0 +1,26 @@
+package com.ei.classroom.grading;
+
+/**
+ * Gives a 15% bonus for completing a hard quiz. Not capped here, so scores can exceed 100;
+ * ClassroomManager.gradeAssignment() caps them at the max score of the assignment's kind.
+ */
+public class HardDifficulty implements QuizDifficultyStrategy {
+    private static final double BONUS = 1.15;
+
+    @Override
+    public String getDifficultyLevel() {
+        return "Hard";
+    }
+
+    @Override
+    public double calculateScoreAdjustment(double baseScore) {
+        return baseScore * BONUS;
+    }
+
+    @Override
+    public void adjustAll(double[] rawScores, double[] adjusted, int from, int to) {
+        for (int i = from; i < to; i++) {
+            adjusted[i] = rawScores[i] * BONUS;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.ei.classroom.grading;
+
+/**
+ * Strategy for adjusting raw quiz scores by difficulty.
+ */
+public interface QuizDifficultyStrategy {
+    String getDifficultyLevel();
+
+    double calculateScoreAdjustment(double baseScore);
+
+    /**
+     * Adjusts rawScores[from, to) into adjusted[from, to); the arrays may be the same.
+     * NaN marks a missing score and must stay NaN.
+     * Implementations should override this with a loop that does not call back into the
+     * strategy, which the JIT can unroll and vectorize.
+     */
+    default void adjustAll(double[] rawScores, double[] adjusted, int from, int to) {
+        for (int i = from; i < to; i++) {
+            adjusted[i] = calculateScoreAdjustment(rawScores[i]);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.ei.classroom.importer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a roster import: counters plus the rejected lines and why they were rejected.
+ * Only the first MAX_STORED_ERRORS rejections are kept in memory; the rest are counted.
+ */
+public class ImportReport {
+    public static final int MAX_STORED_ERRORS = 10_000;
+
+    /** A rejected input line. */
+    public static final class ImportError {
+        private final long lineNumber;
+        private final String line;
+        private final String reason;
+
+        ImportError(long lineNumber, String line, String reason) {
+            this.lineNumber = lineNumber;
+            this.line = line;
+            this.reason = reason;
+        }
+
+        public long getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getLine() {
+            return line;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+    }
+
+    private final List<ImportError> errors = new ArrayList<>();
+    private long linesRead;
+    private long enrolled;
+    private long alreadyEnrolled;
+    private long rejected;
+    private long elapsedNanos;
+
+    synchronized void addLines(long count) {
+        linesRead += count;
+    }
+
+    synchronized void addEnrolled(long newlyEnrolled, long duplicates) {
+        enrolled += newlyEnrolled;
+        alreadyEnrolled += duplicates;
+    }
+
+    synchronized void reject(long lineNumber, String line, String reason) {
+        rejected++;
+        if (errors.size() < MAX_STORED_ERRORS) {
+            errors.add(new ImportError(lineNumber, line, reason));
+        }
+    }
+
+    synchronized void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public synchronized long getLinesRead() {
+        return linesRead;
+    }
+
+    public synchronized long getEnrolled() {
+        return enrolled;
+    }
+
+    public synchronized long getAlreadyEnrolled() {
+        return alreadyEnrolled;
+    }
+
+    public synchronized long getRejected() {
+        return rejected;
+    }
+
+    public synchronized List<ImportError> getErrors() {
+        List<ImportError> sorted = new ArrayList<>(errors);
+        sorted.sort((a, b) -> Long.compare(a.lineNumber, b.lineNumber));
+        return sorted;
+    }
+
+    public synchronized double getLinesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : linesRead * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Writes the rejected lines as "line number<TAB>reason<TAB>original line".
+     */
+    public void writeErrorReport(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (ImportError error : getErrors()) {
+                writer.append(Long.toString(error.lineNumber)).append('\t')
+                        .append(error.reason).append('\t')
+                        .append(error.line).append(System.lineSeparator());
+            }
+            long omitted = getRejected() - MAX_STORED_ERRORS;
+            if (omitted > 0) {
+                writer.append("# ").append(Long.toString(omitted)).append(" further rejected lines not listed")
+                        .append(System.lineSeparator());
+            }
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("Read %d lines: %d enrolled, %d already enrolled, %d rejected (%.0f lines/s).",
+                linesRead, enrolled, alreadyEnrolled, rejected, getLinesPerSecond());
+    }
+}
@@ -0,0 +1,170 @@
+package com.ei.classroom.importer;
+
+import com.ei.classroom.manager.BatchResult;
+import com.ei.classroom.manager.ClassroomManager;
+import com.ei.classroom.manager.EnrollmentRequest;
+import com.ei.classroom.util.AppLogger;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Streaming bulk importer for legacy roster files (see RosterLineParser for the line format).
+ * The file is read in chunks of lines; chunks are parsed in parallel on a worker pool while the
+ * calling thread enrolls finished chunks in file order, one ClassroomManager.enrollAll call per
+ * chunk. At most two chunks per worker are in flight, so memory stays bounded for
+ * files of any size. Bad lines end up in the ImportReport instead of producing placeholder students.
+ */
+public class RosterImporter {
+    private static final String CLASS_NAME = "RosterImporter";
+    private static final int DEFAULT_CHUNK_SIZE = 8192;
+    private static final int READ_BUFFER_SIZE = 1 << 20;
+
+    private final ClassroomManager manager;
+    private final int chunkSize;
+    private final int workers;
+
+    public RosterImporter(ClassroomManager manager) {
+        this(manager, DEFAULT_CHUNK_SIZE, Runtime.getRuntime().availableProcessors());
+    }
+
+    public RosterImporter(ClassroomManager manager, int chunkSize, int workers) {
+        if (chunkSize <= 0 || workers <= 0) {
+            throw new IllegalArgumentException("Chunk size and worker count must be positive.");
+        }
+        this.manager = manager;
+        this.chunkSize = chunkSize;
+        this.workers = workers;
+    }
+
+    /**
+     * @param defaultClassName classroom for lines without a third field; may be null.
+     */
+    public ImportReport importFile(Path file, String defaultClassName) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                Files.newBufferedReader(file, StandardCharsets.UTF_8), READ_BUFFER_SIZE)) {
+            return importLines(reader, defaultClassName);
+        }
+    }
+
+    public ImportReport importLines(BufferedReader reader, String defaultClassName) throws IOException {
+        ImportReport report = new ImportReport();
+        long start = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        ArrayDeque<Future<ParsedChunk>> inFlight = new ArrayDeque<>();
+        try {
+            long lineNumber = 0;
+            List<String> lines = new ArrayList<>(chunkSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+                if (lines.size() == chunkSize) {
+                    long firstLine = lineNumber + 1;
+                    lineNumber += lines.size();
+                    inFlight.add(submit(pool, lines, firstLine, defaultClassName));
+                    lines = new ArrayList<>(chunkSize);
+                    if (inFlight.size() >= workers * 2) {
+                        enroll(await(inFlight.poll()), report);
+                    }
+                }
+            }
+            if (!lines.isEmpty()) {
+                inFlight.add(submit(pool, lines, lineNumber + 1, defaultClassName));
+            }
+            while (!inFlight.isEmpty()) {
+                enroll(await(inFlight.poll()), report);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        report.setElapsedNanos(System.nanoTime() - start);
+        AppLogger.logInfo(CLASS_NAME, "Roster import finished. {}", report);
+        return report;
+    }
+
+    // --- Parsing (worker threads) ---
+
+    /** Parsed lines of one chunk, in file order. */
+    private static final class ParsedChunk {
+        private final int lineCount;
+        private final List<RosterRecord> valid = new ArrayList<>();
+        private final List<RosterRecord> rejected = new ArrayList<>();
+        private final List<String> rejectedLines = new ArrayList<>();
+
+        private ParsedChunk(int lineCount) {
+            this.lineCount = lineCount;
+        }
+    }
+
+    private static Future<ParsedChunk> submit(ExecutorService pool, List<String> lines, long firstLine,
+                                              String defaultClassName) {
+        return pool.submit(() -> parseChunk(lines, firstLine, defaultClassName));
+    }
+
+    private static ParsedChunk parseChunk(List<String> lines, long firstLine, String defaultClassName) {
+        ParsedChunk chunk = new ParsedChunk(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isEmpty() || line.charAt(0) == '#') {
+                continue; // blank lines and comments
+            }
+            RosterRecord record = RosterLineParser.parse(line, firstLine + i, defaultClassName);
+            if (record.isValid() && record.getClassName() == null) {
+                record = RosterRecord.rejected(record.getLineNumber(), "No classroom given and no default classroom set.");
+            }
+            if (record.isValid()) {
+                chunk.valid.add(record);
+            } else {
+                chunk.rejected.add(record);
+                chunk.rejectedLines.add(line);
+            }
+        }
+        return chunk;
+    }
+
+    // --- Enrollment (calling thread, file order) ---
+
+    private void enroll(ParsedChunk chunk, ImportReport report) {
+        report.addLines(chunk.lineCount);
+        for (int i = 0; i < chunk.rejected.size(); i++) {
+            RosterRecord record = chunk.rejected.get(i);
+            report.reject(record.getLineNumber(), chunk.rejectedLines.get(i), record.getError());
+        }
+        List<EnrollmentRequest> requests = new ArrayList<>(chunk.valid.size());
+        for (RosterRecord record : chunk.valid) {
+            requests.add(new EnrollmentRequest(record.getStudentId(), record.getStudentName(), record.getClassName()));
+        }
+        BatchResult result = manager.enrollAll(requests);
+        report.addEnrolled(result.getAppliedCount(), result.getSkippedCount());
+        if (result.getRejectedCount() > 0) {
+            for (int i = 0; i < result.size(); i++) {
+                if (result.getStatus(i) == BatchResult.Status.REJECTED) {
+                    RosterRecord record = chunk.valid.get(i);
+                    report.reject(record.getLineNumber(),
+                            record.getStudentName() + "," + record.getStudentId() + "," + record.getClassName(),
+                            result.getMessage(i));
+                }
+            }
+        }
+    }
+
+    private static ParsedChunk await(Future<ParsedChunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Roster import interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to parse roster chunk.", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.ei.classroom.importer;
+
+/**
+ * Parses legacy roster lines of the form "Name,ID" or "Name,ID,Class".
+ * Scans for commas by index and trims by moving bounds, so each line costs one substring per
+ * field and no regex or intermediate array.
+ */
+public final class RosterLineParser {
+    public static final String EXPECTED_FORMAT = "Name,ID[,Class]";
+
+    private RosterLineParser() {
+    }
+
+    /**
+     * @param defaultClassName classroom used when the line has no third field; may be null.
+     * @return a valid record, or a rejected one carrying the reason.
+     */
+    public static RosterRecord parse(String line, long lineNumber, String defaultClassName) {
+        int firstComma = line.indexOf(',');
+        if (firstComma < 0) {
+            return RosterRecord.rejected(lineNumber, "Invalid CSV format. Expected: " + EXPECTED_FORMAT);
+        }
+        int secondComma = line.indexOf(',', firstComma + 1);
+        int idEnd = secondComma < 0 ? line.length() : secondComma;
+        if (secondComma >= 0 && line.indexOf(',', secondComma + 1) >= 0) {
+            return RosterRecord.rejected(lineNumber, "Too many fields. Expected: " + EXPECTED_FORMAT);
+        }
+
+        String name = trimmed(line, 0, firstComma);
+        String id = trimmed(line, firstComma + 1, idEnd);
+        String className = secondComma < 0 ? defaultClassName : trimmed(line, secondComma + 1, line.length());
+        if (name == null) {
+            return RosterRecord.rejected(lineNumber, "Student name is empty.");
+        }
+        if (id == null) {
+            return RosterRecord.rejected(lineNumber, "Student ID is empty.");
+        }
+        return RosterRecord.valid(lineNumber, name, id, className);
+    }
+
+    /**
+     * @return the trimmed field, or null if it is blank.
+     */
+    private static String trimmed(String line, int start, int end) {
+        while (start < end && line.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && line.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return start == end ? null : line.substring(start, end);
+    }
+}
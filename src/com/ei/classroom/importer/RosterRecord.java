@@ -0,0 +1,55 @@
+package com.ei.classroom.importer;
+
+/**
+ * One parsed line of a roster file: either a student to enroll or the reason the line was rejected.
+ */
+public final class RosterRecord {
+    private final long lineNumber;
+    private final String studentName;
+    private final String studentId;
+    private final String className;
+    private final String error;
+
+    private RosterRecord(long lineNumber, String studentName, String studentId, String className, String error) {
+        this.lineNumber = lineNumber;
+        this.studentName = studentName;
+        this.studentId = studentId;
+        this.className = className;
+        this.error = error;
+    }
+
+    static RosterRecord valid(long lineNumber, String studentName, String studentId, String className) {
+        return new RosterRecord(lineNumber, studentName, studentId, className, null);
+    }
+
+    static RosterRecord rejected(long lineNumber, String error) {
+        return new RosterRecord(lineNumber, null, null, null, error);
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public String getStudentName() {
+        return studentName;
+    }
+
+    public String getStudentId() {
+        return studentId;
+    }
+
+    /**
+     * @return the classroom from the line, the importer's default classroom, or null if neither was given.
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
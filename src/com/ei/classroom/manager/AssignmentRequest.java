@@ -0,0 +1,44 @@
+package com.ei.classroom.manager;
+
+import com.ei.classroom.model.Assignment;
+
+/**
+ * One item of ClassroomManager.scheduleAll(): schedule an assignment of a type such as "MCQ",
+ * optionally due at a given time.
+ */
+public final class AssignmentRequest {
+    private final String className;
+    private final String assignmentName;
+    private final String type;
+    private final long dueAtMillis;
+
+    public AssignmentRequest(String className, String assignmentName, String type) {
+        this(className, assignmentName, type, Assignment.NO_DUE_DATE);
+    }
+
+    /**
+     * @param dueAtMillis epoch milliseconds in the future, or Assignment.NO_DUE_DATE.
+     */
+    public AssignmentRequest(String className, String assignmentName, String type, long dueAtMillis) {
+        this.className = className;
+        this.assignmentName = assignmentName;
+        this.type = type;
+        this.dueAtMillis = dueAtMillis;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public String getAssignmentName() {
+        return assignmentName;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public long getDueAtMillis() {
+        return dueAtMillis;
+    }
+}
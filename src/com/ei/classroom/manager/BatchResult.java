@@ -0,0 +1,96 @@
+package com.ei.classroom.manager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-item outcome of a ClassroomManager batch call, indexed like the request list.
+ */
+public final class BatchResult {
+
+    public enum Status {
+        /** The item changed state. */
+        APPLIED,
+        /** The item was valid but there was nothing to do (e.g. the student was already enrolled). */
+        SKIPPED,
+        /** The item was invalid or conflicted with existing state; see its message. */
+        REJECTED
+    }
+
+    private final Status[] statuses;
+    private final String[] messages;
+    private int applied;
+    private int skipped;
+    private int rejected;
+
+    BatchResult(int size) {
+        this.statuses = new Status[size];
+        this.messages = new String[size];
+    }
+
+    void applied(int index) {
+        statuses[index] = Status.APPLIED;
+        applied++;
+    }
+
+    void skipped(int index, String message) {
+        statuses[index] = Status.SKIPPED;
+        messages[index] = message;
+        skipped++;
+    }
+
+    void rejected(int index, String message) {
+        statuses[index] = Status.REJECTED;
+        messages[index] = message;
+        rejected++;
+    }
+
+    boolean isRejected(int index) {
+        return statuses[index] == Status.REJECTED;
+    }
+
+    public int size() {
+        return statuses.length;
+    }
+
+    public Status getStatus(int index) {
+        return statuses[index];
+    }
+
+    /**
+     * @return why the item was skipped or rejected, or null if it was applied.
+     */
+    public String getMessage(int index) {
+        return messages[index];
+    }
+
+    public int getAppliedCount() {
+        return applied;
+    }
+
+    public int getSkippedCount() {
+        return skipped;
+    }
+
+    public int getRejectedCount() {
+        return rejected;
+    }
+
+    /**
+     * @return one "#index: message" line per rejected item, in request order.
+     */
+    public List<String> getRejections() {
+        List<String> result = new ArrayList<>(rejected);
+        for (int i = 0; i < statuses.length; i++) {
+            if (statuses[i] == Status.REJECTED) {
+                result.add("#" + i + ": " + messages[i]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return applied + " applied, " + skipped + " skipped, " + rejected + " rejected";
+    }
+}
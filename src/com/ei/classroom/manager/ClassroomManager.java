@@ -1,82 +1,248 @@
 package com.ei.classroom.manager;
 
+import com.ei.classroom.grading.GradingEngine;
+import com.ei.classroom.grading.QuizDifficultyStrategy;
 import com.ei.classroom.model.Assignment;
+import com.ei.classroom.model.AssignmentStats;
 import com.ei.classroom.model.Classroom;
+import com.ei.classroom.model.ClassroomState;
+import com.ei.classroom.model.ClassroomStats;
+import com.ei.classroom.model.ClassroomSummary;
+import com.ei.classroom.model.ClassroomView;
+import com.ei.classroom.model.Page;
 import com.ei.classroom.model.Student;
+import com.ei.classroom.observer.AsyncNotificationDispatcher;
+import com.ei.classroom.observer.AsyncNotificationDispatcher.BackpressurePolicy;
+import com.ei.classroom.observer.DeadlineEvent;
+import com.ei.classroom.observer.NotificationObserver;
+import com.ei.classroom.observer.SubmissionEvent;
+import com.ei.classroom.observer.SubmissionEventBus;
 import com.ei.classroom.observer.Teacher;
+import com.ei.classroom.persistence.Journal;
+import com.ei.classroom.persistence.JournalOp;
+import com.ei.classroom.persistence.Snapshot;
+import com.ei.classroom.persistence.SnapshotWriter;
+import com.ei.classroom.scheduler.DeadlineScheduler;
 import com.ei.classroom.factory.AssignmentFactory;
-import com.ei.classroom.factory.AssignmentType;
+import com.ei.classroom.factory.AssignmentKind;
 import com.ei.classroom.util.AppLogger;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * ClassroomManager implements the Singleton Pattern and is the core controller.
+ * It is safe to call from many threads: the registries are concurrent maps and every
+ * mutation of a classroom is guarded by that classroom's own lock, so work on different
+ * classrooms never contends.
+ * With a journal open, every mutation is appended to it while the classroom lock is held
+ * (so the journal order matches the applied order) and the call returns once it is durable.
+ * Grading is the exception: scores live in memory only and are not in snapshots either.
+ * If the journal cannot be written, the call throws UncheckedIOException: its change stays
+ * applied in memory but is not durable and is gone after a restart. The journal then refuses
+ * all further records, so every later mutation fails with IllegalStateException before it
+ * changes anything.
+ * After loadSnapshot(), classrooms and students are read from the snapshot the first time
+ * they are looked up and then live in the registries like any other.
+ * Assignments with a due date get a reminder (classroom.reminder.minutes ahead, one day by
+ * default) and an overdue notice, each sent to the observers in batches of the students who
+ * have not submitted by then.
  */
 public class ClassroomManager {
     private static final String CLASS_NAME = "ClassroomManager";
+    private static final int NOTIFICATION_QUEUE_CAPACITY = 4096;
+    private static final int NOTIFICATION_BATCH_SIZE = 64;
+    private static final long DEADLINE_TICK_MILLIS = 100;
+    private static final int DEADLINE_BATCH_SIZE = 1000;
+    private static final long REMINDER_LEAD_MILLIS = Long.getLong("classroom.reminder.minutes", 24 * 60) * 60_000;
     
     // --- Singleton Implementation ---
-    private static ClassroomManager instance;
+    private static final class Holder {
+        private static final ClassroomManager INSTANCE = new ClassroomManager();
+    }
 
     private final Map<String, Classroom> classrooms;
     private final Map<String, Student> students;
-    private final List<Teacher> teachers;
+    private final AtomicInteger nextStudentOrdinal; // taken only when a student is registered
+    private final SubmissionEventBus eventBus;
+    private final AsyncNotificationDispatcher notificationDispatcher;
+    private final GradingEngine gradingEngine;
+    private final DeadlineScheduler deadlineScheduler;
+    private volatile Journal journal;
+    private volatile Snapshot snapshot;
+    private volatile Path snapshotFile;     // the snapshot the state is based on, loaded or written
+    private volatile boolean snapshotFullyLoaded;
+    private volatile boolean consoleEcho = true;
 
     /**
      * Private constructor.
      */
     private ClassroomManager() {
-        this.classrooms = new HashMap<>();
-        this.students = new HashMap<>();
-        this.teachers = new ArrayList<>();
-        teachers.add(new Teacher("Admin Teacher")); 
+        this.classrooms = new ConcurrentHashMap<>();
+        this.students = new ConcurrentHashMap<>();
+        this.nextStudentOrdinal = new AtomicInteger();
+        this.eventBus = new SubmissionEventBus();
+        this.notificationDispatcher = new AsyncNotificationDispatcher(
+                NOTIFICATION_QUEUE_CAPACITY, NOTIFICATION_BATCH_SIZE, BackpressurePolicy.BLOCK);
+        notificationDispatcher.attach(eventBus); // events are routed on the dispatcher thread
+        this.gradingEngine = new GradingEngine();
+        this.deadlineScheduler = new DeadlineScheduler(DEADLINE_TICK_MILLIS);
+        deadlineScheduler.start();
+        addTeacher(new Teacher("Admin Teacher"));
         AppLogger.logInfo(CLASS_NAME, "System initialized (Singleton instance created).");
     }
 
     /**
      * Public access point for the Singleton instance.
+     * The holder class is initialized lazily and exactly once by the JVM, so no locking is needed here.
      */
     public static ClassroomManager getInstance() {
-        if (instance == null) {
-            instance = new ClassroomManager();
-        }
-        return instance;
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Creates a manager that does not share state with the Singleton instance.
+     * Intended for tools such as benchmarks that need a fresh, isolated manager; call shutdown() when done.
+     */
+    public static ClassroomManager createStandalone() {
+        return new ClassroomManager();
     }
     
+    /**
+     * Stops background work, delivering any notifications that are still queued
+     * and flushing the journal. Deadline notices that are not due yet are not sent.
+     */
+    public void shutdown() {
+        deadlineScheduler.shutdown();
+        notificationDispatcher.shutdown();
+        Journal openJournal = journal;
+        if (openJournal != null) {
+            journal = null;
+            try {
+                openJournal.close();
+            } catch (IOException e) {
+                AppLogger.logError(CLASS_NAME, "Failed to close the journal.", e);
+            }
+        }
+    }
+
+    /**
+     * Turns the per-operation confirmation lines on System.out on or off (on by default).
+     * Servers and scripted clients switch them off; errors are still logged.
+     */
+    public void setConsoleEcho(boolean enabled) {
+        consoleEcho = enabled;
+    }
+
+    public AsyncNotificationDispatcher getNotificationDispatcher() {
+        return notificationDispatcher;
+    }
+
+    public SubmissionEventBus getEventBus() {
+        return eventBus;
+    }
+
+    public DeadlineScheduler getDeadlineScheduler() {
+        return deadlineScheduler;
+    }
+
     // --- Core Management Methods ---
 
-    public void addClassroom(String name) {
-        if (classrooms.containsKey(name)) {
+    /**
+     * Registers a teacher to receive submission notifications from every classroom.
+     */
+    public void addTeacher(Teacher teacher) {
+        eventBus.attach(teacher);
+    }
+
+    /**
+     * Registers an observer (typically a Teacher) for submissions in one classroom only.
+     */
+    public void subscribeToClassroom(NotificationObserver observer, String className) {
+        eventBus.subscribeToClassroom(observer, className);
+    }
+
+    /**
+     * @return false if a classroom with this name already exists.
+     */
+    public boolean addClassroom(String name) {
+        checkJournalWritable();
+        if (lookupClassroom(name) != null) {
             AppLogger.logError(CLASS_NAME, "Classroom '" + name + "' already exists.");
-            return;
+            return false;
+        }
+        Classroom classroom = new Classroom(name);
+        long ticket;
+        synchronized (classroom) { // nobody can journal into it before its creation is journaled
+            if (classrooms.putIfAbsent(name, classroom) != null) {
+                AppLogger.logError(CLASS_NAME, "Classroom '" + name + "' already exists.");
+                return false;
+            }
+            ticket = journal(JournalOp.ADD_CLASSROOM, name);
+        }
+        awaitDurable(ticket);
+        if (consoleEcho) {
+            System.out.println("Classroom [" + name + "] has been created.");
         }
-        classrooms.put(name, new Classroom(name));
-        System.out.println("Classroom [" + name + "] has been created.");
-        AppLogger.logInfo(CLASS_NAME, "Classroom " + name + " added.");
+        AppLogger.logInfo(CLASS_NAME, "Classroom {} added.", name);
+        return true;
     }
     
     /**
      * Enrolls a student into a classroom.
      */
     public void enrollStudent(String studentId, String studentName, String className) throws NoSuchElementException {
-        Classroom classroom = classrooms.get(className);
-        if (classroom == null) {
-            throw new NoSuchElementException("Classroom [" + className + "] not found.");
-        }
+        checkJournalWritable();
+        Classroom classroom = getClassroomOrThrow(className);
 
-        Student student = students.computeIfAbsent(studentId, k -> {
-            AppLogger.logInfo(CLASS_NAME, "New student created: " + studentName + " (" + studentId + ")");
-            Student newStudent = new Student(studentId, studentName);
-            teachers.forEach(newStudent::attach); // Attach observers
-            return newStudent;
-        });
+        Student student = resolveStudent(studentId, studentName);
 
-        classroom.enrollStudent(student);
-        System.out.println("Student [" + studentId + " - " + studentName + "] has been enrolled in [" + className + "].");
+        long ticket;
+        boolean enrolled;
+        synchronized (classroom) {
+            enrolled = classroom.enroll(student);
+            ticket = journal(JournalOp.ENROLL, studentId, student.getName(), className);
+        }
+        awaitDurable(ticket);
+        if (enrolled) {
+            AppLogger.logInfo(CLASS_NAME, "Student {} enrolled in {}", studentId, className);
+        } else {
+            AppLogger.logInfo(CLASS_NAME, "Student {} is already enrolled in {}", studentId, className);
+        }
+        if (consoleEcho) {
+            System.out.println("Student [" + studentId + " - " + studentName + "] has been enrolled in [" + className + "].");
+        }
+    }
+
+    /**
+     * Removes a student from a classroom. The student record itself is kept.
+     */
+    public void unenrollStudent(String studentId, String className) throws NoSuchElementException {
+        checkJournalWritable();
+        Classroom classroom = getClassroomOrThrow(className);
+        Student student = lookupStudent(studentId);
+        long ticket;
+        synchronized (classroom) {
+            if (student == null || !classroom.unenrollStudent(student)) {
+                throw new NoSuchElementException("Student [" + studentId + "] is not enrolled in [" + className + "].");
+            }
+            ticket = journal(JournalOp.UNENROLL, studentId, className);
+        }
+        awaitDurable(ticket);
+        if (consoleEcho) {
+            System.out.println("Student [" + studentId + "] has been unenrolled from [" + className + "].");
+        }
     }
 
     /**
@@ -84,33 +250,54 @@ public class ClassroomManager {
      */
     public void scheduleAssignment(String className, String assignmentName, String typeString) 
             throws IllegalArgumentException, NoSuchElementException {
-        
-        Classroom classroom = classrooms.get(className);
-        if (classroom == null) {
-            throw new NoSuchElementException("Classroom [" + className + "] not found.");
+        scheduleAssignment(className, assignmentName, typeString, Assignment.NO_DUE_DATE);
+    }
+
+    /**
+     * Schedules an assignment that is due at the given time (epoch milliseconds, or
+     * Assignment.NO_DUE_DATE), arming its reminder and overdue notices.
+     */
+    public void scheduleAssignment(String className, String assignmentName, String typeString, long dueAtMillis)
+            throws IllegalArgumentException, NoSuchElementException {
+        checkJournalWritable();
+        Classroom classroom = getClassroomOrThrow(className);
+        long now = System.currentTimeMillis();
+        if (dueAtMillis != Assignment.NO_DUE_DATE && dueAtMillis <= now) {
+            throw new IllegalArgumentException("The due date of '" + assignmentName + "' must be in the future.");
         }
 
-        try {
-            AssignmentType type = AssignmentType.valueOf(typeString.toUpperCase());
-            Assignment assignment = AssignmentFactory.createAssignment(type, assignmentName, className);
-            classroom.getAssignments().add(assignment);
+        AssignmentKind kind = AssignmentFactory.findKind(typeString);
+        if (kind == null) {
+            AppLogger.logError(CLASS_NAME, "Invalid assignment type provided: " + typeString);
+            throw new IllegalArgumentException("Invalid assignment type. Use: " + AssignmentFactory.describeKinds() + ".");
+        }
+
+        Assignment assignment = AssignmentFactory.createAssignment(kind, assignmentName, className);
+        assignment.setDueAtMillis(dueAtMillis);
+        long ticket;
+        synchronized (classroom) {
+            if (!classroom.addAssignment(assignment)) {
+                AppLogger.logError(CLASS_NAME, "Duplicate assignment name in " + className + ": " + assignmentName);
+                throw new IllegalArgumentException("Assignment '" + assignmentName + "' is already scheduled in class [" + className + "].");
+            }
+            ticket = journalSchedule(assignment, kind);
+        }
+        awaitDurable(ticket);
+        armDeadlines(classroom, assignment, now);
+        if (consoleEcho) {
             System.out.println("Assignment for [" + className + "] has been scheduled: " + assignment.getType());
-            AppLogger.logInfo(CLASS_NAME, "Assignment scheduled: " + assignmentName);
-            
-        } catch (IllegalArgumentException e) {
-            AppLogger.logError(CLASS_NAME, "Invalid assignment type provided: " + typeString, e);
-            throw new IllegalArgumentException("Invalid assignment type. Use: MCQ, ESSAY, or PRACTICAL.");
         }
+        AppLogger.logInfo(CLASS_NAME, "Assignment scheduled: {}", assignmentName);
     }
     
     /**
      * Submits an assignment (Observer Pattern notification).
      */
     public void submitAssignment(String studentId, String className, String assignmentName) 
-            throws NoSuchElementException {
-        
-        Student student = students.get(studentId);
-        Classroom classroom = classrooms.get(className);
+            throws NoSuchElementException, IllegalStateException {
+        checkJournalWritable();
+        Student student = lookupStudent(studentId);
+        Classroom classroom = lookupClassroom(className);
 
         if (student == null) {
             throw new NoSuchElementException("Student [" + studentId + "] not found.");
@@ -119,44 +306,721 @@ public class ClassroomManager {
             throw new NoSuchElementException("Classroom [" + className + "] not found.");
         }
 
-        Assignment assignmentToSubmit = classroom.getAssignments().stream()
-                .filter(a -> a.getName().equalsIgnoreCase(assignmentName) && !a.isSubmitted())
-                .findFirst()
-                .orElseThrow(() -> new NoSuchElementException("Assignment '" + assignmentName + "' not found or already submitted in class [" + className + "]."));
+        // Recorded under the classroom lock; observers are notified outside of it.
+        Assignment assignmentToSubmit;
+        long ticket;
+        synchronized (classroom) {
+            assignmentToSubmit = classroom.findAssignment(assignmentName);
+            if (assignmentToSubmit == null) {
+                throw new NoSuchElementException("Assignment '" + assignmentName + "' not found in class [" + className + "].");
+            }
+            if (!classroom.isEnrolled(student)) {
+                throw new NoSuchElementException("Student [" + studentId + "] is not enrolled in [" + className + "].");
+            }
+            if (!classroom.recordSubmission(student, assignmentToSubmit)) {
+                throw new IllegalStateException("Student [" + studentId + "] has already submitted '" + assignmentName + "' in class [" + className + "].");
+            }
+            ticket = journal(JournalOp.SUBMIT, studentId, className, assignmentToSubmit.getName());
+        }
+        awaitDurable(ticket);
         
-        student.submitAssignment(assignmentToSubmit); 
+        notificationDispatcher.notifyObservers(new SubmissionEvent(student.getId(), className,
+                assignmentToSubmit.getName(), assignmentToSubmit.getType(), System.currentTimeMillis()));
         
-        System.out.println("Assignment submitted by Student [" + studentId + "] in [" + className + "].");
+        if (consoleEcho) {
+            System.out.println("Assignment submitted by Student [" + studentId + "] in [" + className + "].");
+        }
     }
     
-    // --- Listing Methods ---
-    
-    public void listClassrooms() {
-        if (classrooms.isEmpty()) {
-            System.out.println("No classrooms created yet.");
+    public boolean hasSubmitted(String studentId, String className, String assignmentName) throws NoSuchElementException {
+        Classroom classroom = getClassroomOrThrow(className);
+        Assignment assignment = getAssignmentOrThrow(classroom, assignmentName);
+        Student student = lookupStudent(studentId);
+        return student != null && classroom.hasSubmitted(student, assignment);
+    }
+
+    /**
+     * @return the enrolled students who have not yet submitted the assignment.
+     */
+    public List<Student> getMissingSubmissions(String className, String assignmentName) throws NoSuchElementException {
+        Classroom classroom = getClassroomOrThrow(className);
+        Assignment assignment = getAssignmentOrThrow(classroom, assignmentName);
+        return classroom.getMissingSubmissions(assignment);
+    }
+
+    // --- Deadlines ---
+
+    /**
+     * Arms the reminder and overdue notices of an assignment with a due date, skipping any
+     * whose time was already reached at the given moment: notices missed while the process
+     * was down are not sent late.
+     */
+    private void armDeadlines(Classroom classroom, Assignment assignment, long since) {
+        if (!assignment.hasDueDate()) {
             return;
         }
-        System.out.println("\n--- Active Classrooms ---");
-        classrooms.values().forEach(c -> {
-            System.out.printf("- %s (%d students)\n", c.getName(), c.getEnrolledStudents().size());
-        });
-        System.out.println("-------------------------\n");
+        long dueAt = assignment.getDueAtMillis();
+        long remindAt = dueAt - REMINDER_LEAD_MILLIS;
+        if (remindAt > since) {
+            deadlineScheduler.schedule(remindAt, () -> publishDeadline(classroom, assignment, DeadlineEvent.Kind.REMINDER));
+        }
+        if (dueAt > since) {
+            deadlineScheduler.schedule(dueAt, () -> publishDeadline(classroom, assignment, DeadlineEvent.Kind.OVERDUE));
+        }
     }
-    
-    public void listStudentsInClass(String className) throws NoSuchElementException {
+
+    /**
+     * Runs on the scheduler thread: reads who has not submitted and hands them to the
+     * observers in batches of DEADLINE_BATCH_SIZE, through the notification queue.
+     */
+    private void publishDeadline(Classroom classroom, Assignment assignment, DeadlineEvent.Kind kind) {
+        List<Student> missing = classroom.getMissingSubmissions(assignment);
+        long timestamp = System.currentTimeMillis();
+        for (int from = 0; from < missing.size(); from += DEADLINE_BATCH_SIZE) {
+            String[] studentIds = new String[Math.min(DEADLINE_BATCH_SIZE, missing.size() - from)];
+            for (int i = 0; i < studentIds.length; i++) {
+                studentIds[i] = missing.get(from + i).getId();
+            }
+            notificationDispatcher.notifyDeadline(new DeadlineEvent(kind, classroom.getName(), assignment.getName(),
+                    assignment.getType(), assignment.getDueAtMillis(), studentIds, missing.size(), timestamp));
+        }
+        AppLogger.logInfo(CLASS_NAME, "{} notice for {} sent.", kind, classroom.getName() + "/" + assignment.getName()
+                + " (" + missing.size() + " missing)");
+    }
+
+    // --- Student Views ---
+    // Read from the classrooms each student keeps, so no roster is scanned.
+
+    /**
+     * @return the names of the classrooms the student is enrolled in, in the order they joined
+     *         (or were read from the snapshot).
+     */
+    public List<String> getClassroomsOfStudent(String studentId) throws NoSuchElementException {
+        List<Classroom> joined = studentWithSchedule(studentId).getClassrooms();
+        List<String> names = new ArrayList<>(joined.size());
+        for (Classroom classroom : joined) {
+            names.add(classroom.getName());
+        }
+        return names;
+    }
+
+    /**
+     * @return the assignments the student still has to submit, classroom by classroom.
+     */
+    public List<Assignment> getPendingAssignments(String studentId) throws NoSuchElementException {
+        Student student = studentWithSchedule(studentId);
+        List<Assignment> pending = new ArrayList<>();
+        for (Classroom classroom : student.getClassrooms()) {
+            pending.addAll(classroom.getPendingAssignments(student));
+        }
+        return pending;
+    }
+
+    /**
+     * A student's schedule only lists classrooms that have been read from the snapshot, so the
+     * first such query after loadSnapshot() reads the rest.
+     */
+    private Student studentWithSchedule(String studentId) {
+        Student student = getStudentOrThrow(studentId);
+        if (snapshot != null && !snapshotFullyLoaded) {
+            allClassrooms();
+        }
+        return student;
+    }
+
+    // --- Grading ---
+
+    /**
+     * Grades an assignment for many students at once. The raw scores are laid out by seat under
+     * the classroom lock, adjusted in bulk by the difficulty strategy outside of it (in parallel
+     * for large classes), capped at the max score of the assignment's kind, and stored as the
+     * students' scores, replacing any earlier ones.
+     * Scores are kept in memory only: they are neither journaled nor written to snapshots, so
+     * they are gone after a restart.
+     * @param studentIds and rawScores are parallel columns; students not enrolled in the class are skipped.
+     * @return how many scores were recorded.
+     */
+    public int gradeAssignment(String className, String assignmentName, QuizDifficultyStrategy difficulty,
+            String[] studentIds, double[] rawScores) throws NoSuchElementException {
+        if (studentIds.length != rawScores.length) {
+            throw new IllegalArgumentException("Expected one raw score per student ID.");
+        }
+        Classroom classroom = getClassroomOrThrow(className);
+        Assignment assignment = getAssignmentOrThrow(classroom, assignmentName);
+        Student[] graded = new Student[studentIds.length];
+        for (int i = 0; i < studentIds.length; i++) {
+            graded[i] = lookupStudent(studentIds[i]);
+        }
+        AssignmentKind kind = AssignmentFactory.kindOf(assignment);
+        double maxScore = kind != null ? kind.getMaxScore() : GradingEngine.NO_MAX_SCORE;
+        double[] adjusted = gradingEngine.grade(difficulty, classroom.scoresBySeat(graded, rawScores), maxScore);
+        int recorded = classroom.recordScores(assignment, adjusted);
+        AppLogger.logInfo(CLASS_NAME, "{} scores recorded for {}", recorded, className + "/" + assignment.getName());
+        return recorded;
+    }
+
+    /**
+     * @return the student's adjusted score, or NaN if they have not been graded.
+     */
+    public double getScore(String studentId, String className, String assignmentName) throws NoSuchElementException {
+        Classroom classroom = getClassroomOrThrow(className);
+        Assignment assignment = getAssignmentOrThrow(classroom, assignmentName);
+        Student student = lookupStudent(studentId);
+        return student == null ? Double.NaN : classroom.getScore(student, assignment);
+    }
+
+    // --- Analytics ---
+    // Read from counters every classroom keeps current as it changes, so none of these
+    // take a classroom lock or walk a roster.
+
+    public ClassroomStats getClassroomStats(String className) throws NoSuchElementException {
+        return getClassroomOrThrow(className).getStats();
+    }
+
+    public AssignmentStats getAssignmentStats(String className, String assignmentName) throws NoSuchElementException {
+        return getAssignmentOrThrow(getClassroomOrThrow(className), assignmentName).getStats();
+    }
+
+    /**
+     * @return the names of the classrooms whose submission rate is below minRate, least submitted first.
+     */
+    public List<String> classroomsBehind(double minRate) {
+        // Rates are read once up front: they keep moving, and the sort needs stable keys.
+        List<Map.Entry<String, Double>> behind = new ArrayList<>();
+        for (Classroom classroom : allClassrooms()) {
+            double rate = classroom.getStats().getSubmissionRate();
+            if (rate < minRate) {
+                behind.add(Map.entry(classroom.getName(), rate));
+            }
+        }
+        behind.sort(Map.Entry.comparingByValue());
+        List<String> names = new ArrayList<>(behind.size());
+        for (Map.Entry<String, Double> classroom : behind) {
+            names.add(classroom.getKey());
+        }
+        return names;
+    }
+
+    // --- Batch Methods ---
+    // Every item is validated before anything is applied, then each classroom is locked once
+    // for all of its items. Nothing is printed per item; one summary line is logged instead.
+    // Invalid or conflicting items are rejected individually and do not stop the others.
+
+    /**
+     * Enrolls many students into one or many classrooms, creating students that are new.
+     */
+    public BatchResult enrollAll(List<EnrollmentRequest> requests) {
+        checkJournalWritable();
+        BatchResult result = new BatchResult(requests.size());
+        Map<String, Classroom> resolved = new HashMap<>();
+        Map<Classroom, List<Integer>> byClassroom = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            EnrollmentRequest request = requests.get(i);
+            if (isBlank(request.getStudentId()) || isBlank(request.getStudentName())) {
+                result.rejected(i, "Student ID and name are required.");
+                continue;
+            }
+            Classroom classroom = resolveClassroom(request.getClassName(), resolved);
+            if (classroom == null) {
+                result.rejected(i, "Classroom [" + request.getClassName() + "] not found.");
+                continue;
+            }
+            byClassroom.computeIfAbsent(classroom, c -> new ArrayList<>()).add(i);
+        }
+
+        long ticket = -1;
+        for (Map.Entry<Classroom, List<Integer>> entry : byClassroom.entrySet()) {
+            Classroom classroom = entry.getKey();
+            List<Integer> indexes = entry.getValue();
+            Student[] batch = new Student[indexes.size()];
+            for (int k = 0; k < batch.length; k++) {
+                EnrollmentRequest request = requests.get(indexes.get(k));
+                batch[k] = registerStudent(request.getStudentId(), request.getStudentName());
+            }
+            synchronized (classroom) {
+                for (int k = 0; k < batch.length; k++) {
+                    if (classroom.enroll(batch[k])) {
+                        result.applied(indexes.get(k));
+                        ticket = journal(JournalOp.ENROLL, batch[k].getId(), batch[k].getName(), classroom.getName());
+                    } else {
+                        result.skipped(indexes.get(k), "Already enrolled.");
+                    }
+                }
+            }
+        }
+        awaitDurable(ticket);
+        AppLogger.logInfo(CLASS_NAME, "Batch enrollment: {}", result);
+        return result;
+    }
+
+    /**
+     * Schedules many assignments across one or many classrooms, arming the notices of those
+     * with a due date.
+     */
+    public BatchResult scheduleAll(List<AssignmentRequest> requests) {
+        checkJournalWritable();
+        BatchResult result = new BatchResult(requests.size());
+        Map<String, Classroom> resolved = new HashMap<>();
+        Map<Classroom, List<Integer>> byClassroom = new LinkedHashMap<>();
+        AssignmentKind[] kinds = new AssignmentKind[requests.size()];
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < requests.size(); i++) {
+            AssignmentRequest request = requests.get(i);
+            if (isBlank(request.getAssignmentName()) || isBlank(request.getType())) {
+                result.rejected(i, "Assignment name and type are required.");
+                continue;
+            }
+            if (request.getDueAtMillis() != Assignment.NO_DUE_DATE && request.getDueAtMillis() <= now) {
+                result.rejected(i, "The due date of '" + request.getAssignmentName() + "' must be in the future.");
+                continue;
+            }
+            kinds[i] = AssignmentFactory.findKind(request.getType());
+            if (kinds[i] == null) {
+                result.rejected(i, "Invalid assignment type '" + request.getType() + "'. Use: "
+                        + AssignmentFactory.describeKinds() + ".");
+                continue;
+            }
+            Classroom classroom = resolveClassroom(request.getClassName(), resolved);
+            if (classroom == null) {
+                result.rejected(i, "Classroom [" + request.getClassName() + "] not found.");
+                continue;
+            }
+            byClassroom.computeIfAbsent(classroom, c -> new ArrayList<>()).add(i);
+        }
+
+        long ticket = -1;
+        List<Map.Entry<Classroom, Assignment>> scheduled = new ArrayList<>();
+        for (Map.Entry<Classroom, List<Integer>> entry : byClassroom.entrySet()) {
+            Classroom classroom = entry.getKey();
+            List<Integer> indexes = entry.getValue();
+            Assignment[] batch = new Assignment[indexes.size()];
+            for (int k = 0; k < batch.length; k++) {
+                int index = indexes.get(k);
+                batch[k] = AssignmentFactory.createAssignment(kinds[index],
+                        requests.get(index).getAssignmentName(), classroom.getName());
+                batch[k].setDueAtMillis(requests.get(index).getDueAtMillis());
+            }
+            synchronized (classroom) {
+                for (int k = 0; k < batch.length; k++) {
+                    int index = indexes.get(k);
+                    if (classroom.addAssignment(batch[k])) {
+                        result.applied(index);
+                        ticket = journalSchedule(batch[k], kinds[index]);
+                        scheduled.add(Map.entry(classroom, batch[k]));
+                    } else {
+                        result.rejected(index, "Assignment '" + batch[k].getName() + "' is already scheduled in class ["
+                                + classroom.getName() + "].");
+                    }
+                }
+            }
+        }
+        awaitDurable(ticket);
+        for (Map.Entry<Classroom, Assignment> entry : scheduled) {
+            armDeadlines(entry.getKey(), entry.getValue(), now);
+        }
+        AppLogger.logInfo(CLASS_NAME, "Batch scheduling: {}", result);
+        return result;
+    }
+
+    /**
+     * Records many submissions. Observers are notified of each accepted submission after the
+     * whole batch is durable.
+     */
+    public BatchResult submitAll(List<SubmissionRequest> requests) {
+        checkJournalWritable();
+        BatchResult result = new BatchResult(requests.size());
+        Map<String, Classroom> resolved = new HashMap<>();
+        Map<Classroom, List<Integer>> byClassroom = new LinkedHashMap<>();
+        Student[] submitters = new Student[requests.size()];
+        for (int i = 0; i < requests.size(); i++) {
+            SubmissionRequest request = requests.get(i);
+            if (isBlank(request.getStudentId()) || isBlank(request.getAssignmentName())) {
+                result.rejected(i, "Student ID and assignment name are required.");
+                continue;
+            }
+            submitters[i] = lookupStudent(request.getStudentId());
+            if (submitters[i] == null) {
+                result.rejected(i, "Student [" + request.getStudentId() + "] not found.");
+                continue;
+            }
+            Classroom classroom = resolveClassroom(request.getClassName(), resolved);
+            if (classroom == null) {
+                result.rejected(i, "Classroom [" + request.getClassName() + "] not found.");
+                continue;
+            }
+            byClassroom.computeIfAbsent(classroom, c -> new ArrayList<>()).add(i);
+        }
+
+        List<SubmissionEvent> events = new ArrayList<>();
+        long timestamp = System.currentTimeMillis();
+        long ticket = -1;
+        for (Map.Entry<Classroom, List<Integer>> entry : byClassroom.entrySet()) {
+            Classroom classroom = entry.getKey();
+            String className = classroom.getName();
+            synchronized (classroom) {
+                for (int index : entry.getValue()) {
+                    SubmissionRequest request = requests.get(index);
+                    String studentId = request.getStudentId();
+                    Assignment assignment = classroom.findAssignment(request.getAssignmentName());
+                    if (assignment == null) {
+                        result.rejected(index, "Assignment '" + request.getAssignmentName() + "' not found in class [" + className + "].");
+                    } else if (!classroom.isEnrolled(submitters[index])) {
+                        result.rejected(index, "Student [" + studentId + "] is not enrolled in [" + className + "].");
+                    } else if (!classroom.recordSubmission(submitters[index], assignment)) {
+                        result.rejected(index, "Student [" + studentId + "] has already submitted '" + assignment.getName() + "'.");
+                    } else {
+                        result.applied(index);
+                        ticket = journal(JournalOp.SUBMIT, studentId, className, assignment.getName());
+                        events.add(new SubmissionEvent(studentId, className, assignment.getName(), assignment.getType(), timestamp));
+                    }
+                }
+            }
+        }
+        awaitDurable(ticket);
+        for (SubmissionEvent event : events) {
+            notificationDispatcher.notifyObservers(event);
+        }
+        AppLogger.logInfo(CLASS_NAME, "Batch submission: {}", result);
+        return result;
+    }
+
+    /**
+     * Looks a classroom up once per batch, caching the answer (including "not found").
+     */
+    private Classroom resolveClassroom(String className, Map<String, Classroom> resolved) {
+        if (isBlank(className)) {
+            return null;
+        }
+        if (resolved.containsKey(className)) {
+            return resolved.get(className);
+        }
+        Classroom classroom = lookupClassroom(className);
+        resolved.put(className, classroom);
+        return classroom;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    // --- Persistence ---
+
+    /**
+     * Replays the journal file (created if missing) into this manager, then records every
+     * further mutation in it. Call before the manager is used by other threads.
+     * @throws IOException also if the journal was trimmed by a checkpoint but no snapshot was
+     *         loaded, since replaying it alone would lose everything before the checkpoint.
+     */
+    public synchronized void openJournal(Path file) throws IOException {
+        if (journal != null) {
+            throw new IllegalStateException("A journal is already open.");
+        }
+        if (snapshot == null && Journal.startsAtCheckpoint(file)) {
+            throw new IOException("Journal " + file + " was trimmed by a checkpoint; load its snapshot first.");
+        }
+        journal = Journal.open(file, this::replay);
+        AppLogger.logInfo(CLASS_NAME, "Journal opened: {}", file);
+    }
+
+    /**
+     * Makes the snapshot's classrooms and students available without reading them yet; only
+     * classrooms with due dates are read right away, so their notices are armed.
+     * Call on a fresh manager, before openJournal() and before other threads use it.
+     */
+    public synchronized void loadSnapshot(Path file) throws IOException {
+        if (snapshot != null || !classrooms.isEmpty() || !students.isEmpty()) {
+            throw new IllegalStateException("A snapshot can only be loaded into an empty manager.");
+        }
+        long start = System.nanoTime();
+        snapshot = Snapshot.open(file);
+        snapshotFile = file;
+        nextStudentOrdinal.set(snapshot.getStudentCount()); // its students keep their positions as ordinals
+        for (int index : snapshot.deadlineClassrooms()) {
+            lookupClassroom(snapshot.classroomName(index)); // arms their deadlines
+        }
+        AppLogger.logInfo(CLASS_NAME, "Snapshot mapped in {} us: {}", (System.nanoTime() - start) / 1_000, file);
+    }
+
+    /**
+     * Writes every classroom and student to a snapshot file. Each classroom is written from a
+     * view of it, so mutations are only held up while that view is taken.
+     */
+    public synchronized void saveSnapshot(Path file) throws IOException {
+        Collection<Classroom> all = allClassrooms();
+        List<ClassroomState> states = new ArrayList<>(all.size());
+        for (Classroom classroom : all) {
+            states.add(classroom.captureState());
+        }
+        Map<String, Student> allStudents = new LinkedHashMap<>();
+        Snapshot source = snapshot;
+        if (source != null) {
+            for (int ordinal = 0; ordinal < source.getStudentCount(); ordinal++) {
+                Student student = source.student(ordinal);
+                allStudents.put(student.getId(), student);
+            }
+        }
+        for (Student student : students.values()) {
+            allStudents.putIfAbsent(student.getId(), student);
+        }
+        SnapshotWriter.write(file, allStudents.values(), states);
+    }
+
+    /**
+     * Saves a snapshot and, if a journal is open, cuts the journal down to the mutations
+     * made after the snapshot was started. Startup then only replays those.
+     * @throws IllegalStateException if the file holds a snapshot this manager did not load or
+     *         write: its state may be missing from the manager, and overwriting it would lose it.
+     */
+    public synchronized void checkpoint(Path file) throws IOException {
+        Path base = snapshotFile;
+        if (Files.exists(file) && (base == null || !Files.isSameFile(file, base))) {
+            throw new IllegalStateException("Snapshot " + file + " exists but was not loaded; not overwriting it.");
+        }
+        Journal openJournal = journal;
+        if (openJournal != null) {
+            openJournal.beginCheckpoint();
+        }
+        saveSnapshot(file);
+        snapshotFile = file;
+        if (openJournal != null) {
+            openJournal.completeCheckpoint();
+        }
+    }
+
+    /**
+     * Applies one journal record without console output, journaling or notifications.
+     */
+    private void replay(JournalOp op, String[] fields) {
+        try {
+            switch (op) {
+                case ADD_CLASSROOM:
+                    if (lookupClassroom(fields[0]) == null) {
+                        classrooms.putIfAbsent(fields[0], new Classroom(fields[0]));
+                    }
+                    break;
+                case ENROLL:
+                    Student student = lookupStudent(fields[0]);
+                    if (student == null) {
+                        student = students.computeIfAbsent(fields[0], id -> newStudent(id, fields[1]));
+                    }
+                    getClassroomOrThrow(fields[2]).enroll(student);
+                    break;
+                case UNENROLL:
+                    getClassroomOrThrow(fields[1]).unenrollStudent(getStudentOrThrow(fields[0]));
+                    break;
+                case SCHEDULE:
+                    // Rebuilt from the journaled type name whether or not its kind is registered
+                    // now, as a snapshot restores it; older journals hold the kind's code instead.
+                    AssignmentKind kind = AssignmentFactory.findKind(fields[2]);
+                    Classroom target = getClassroomOrThrow(fields[0]);
+                    Assignment scheduled = new Assignment(fields[1], fields[0], kind != null ? kind.getTypeName() : fields[2]);
+                    if (fields.length > 3) {
+                        scheduled.setDueAtMillis(Long.parseLong(fields[3]));
+                    }
+                    if (target.addAssignment(scheduled)) {
+                        armDeadlines(target, scheduled, System.currentTimeMillis());
+                    }
+                    break;
+                case SUBMIT:
+                    Classroom classroom = getClassroomOrThrow(fields[1]);
+                    classroom.recordSubmission(getStudentOrThrow(fields[0]), getAssignmentOrThrow(classroom, fields[2]));
+                    break;
+                default:
+                    AppLogger.logError(CLASS_NAME, "Unknown journal operation: " + op);
+            }
+        } catch (RuntimeException e) {
+            AppLogger.logError(CLASS_NAME, "Skipping journal record " + op + " that could not be applied.", e);
+        }
+    }
+
+    /**
+     * Must be called while holding the lock of the classroom being changed.
+     * @return the journal ticket, or -1 if no journal is open.
+     */
+    private long journal(JournalOp op, String... fields) {
+        Journal openJournal = journal;
+        return openJournal == null ? -1 : openJournal.append(op, fields);
+    }
+
+    /**
+     * Must be called while holding the lock of the classroom the assignment was added to.
+     */
+    private long journalSchedule(Assignment assignment, AssignmentKind kind) {
+        return assignment.hasDueDate()
+                ? journal(JournalOp.SCHEDULE, assignment.getClassName(), assignment.getName(), kind.getTypeName(),
+                        Long.toString(assignment.getDueAtMillis()))
+                : journal(JournalOp.SCHEDULE, assignment.getClassName(), assignment.getName(), kind.getTypeName());
+    }
+
+    /**
+     * Refuses a mutation before it is applied if the journal has failed.
+     */
+    private void checkJournalWritable() {
+        Journal openJournal = journal;
+        if (openJournal != null) {
+            openJournal.checkWritable();
+        }
+    }
+
+    /**
+     * Waits, outside any classroom lock, until the journaled mutation is on disk.
+     * @throws java.io.UncheckedIOException if it could not be written; the change stays in memory.
+     */
+    private void awaitDurable(long ticket) {
+        Journal openJournal = journal;
+        if (ticket >= 0 && openJournal != null) {
+            openJournal.awaitDurable(ticket);
+        }
+    }
+
+    /**
+     * @return the classroom, reading it from the snapshot if it has not been touched yet, or null.
+     */
+    private Classroom lookupClassroom(String className) {
         Classroom classroom = classrooms.get(className);
+        Snapshot source = snapshot;
+        if (classroom != null || source == null || snapshotFullyLoaded) {
+            return classroom;
+        }
+        int index = source.findClassroom(className);
+        if (index < 0) {
+            return null;
+        }
+        // Built, and linked into its students' schedules, by one thread only and published
+        // once complete, so no reader sees it without its student links.
+        Classroom[] created = new Classroom[1];
+        classroom = classrooms.computeIfAbsent(className, name -> {
+            Classroom restored = source.materializeClassroom(index);
+            restored.linkEnrolledStudents();
+            created[0] = restored;
+            return restored;
+        });
+        if (classroom == created[0]) {
+            long now = System.currentTimeMillis();
+            for (Assignment assignment : classroom.getAssignments()) {
+                armDeadlines(classroom, assignment, now);
+            }
+        }
+        return classroom;
+    }
+
+    /**
+     * @return the student, reading it from the snapshot if it has not been touched yet, or null.
+     */
+    private Student lookupStudent(String studentId) {
+        Student student = students.get(studentId);
+        Snapshot source = snapshot;
+        if (student != null || source == null) {
+            return student;
+        }
+        int ordinal = source.findStudent(studentId);
+        if (ordinal < 0) {
+            return null;
+        }
+        Student restored = source.student(ordinal);
+        Student existing = students.putIfAbsent(studentId, restored);
+        return existing == null ? restored : existing;
+    }
+
+    /**
+     * @return the existing student with this ID, or a newly registered one.
+     */
+    private Student resolveStudent(String studentId, String studentName) {
+        Student student = lookupStudent(studentId);
+        if (student != null) {
+            return student;
+        }
+        return students.computeIfAbsent(studentId, k -> {
+            AppLogger.logInfo(CLASS_NAME, "New student created: {} ({})", studentName, studentId);
+            return newStudent(studentId, studentName);
+        });
+    }
+
+    /**
+     * Like resolveStudent(), without logging each new student; batch callers log a summary.
+     */
+    private Student registerStudent(String studentId, String studentName) {
+        Student student = lookupStudent(studentId);
+        return student != null ? student : students.computeIfAbsent(studentId, id -> newStudent(id, studentName));
+    }
+
+    /**
+     * Creates the student being registered; only called from students.computeIfAbsent(), which
+     * runs it once per new ID, so ordinals stay dense.
+     */
+    private Student newStudent(String studentId, String studentName) {
+        return new Student(studentId, studentName, nextStudentOrdinal.getAndIncrement());
+    }
+
+    /**
+     * @return every classroom, first reading any the snapshot still holds.
+     */
+    private Collection<Classroom> allClassrooms() {
+        Snapshot source = snapshot;
+        if (source != null && !snapshotFullyLoaded) {
+            for (int index = 0; index < source.getClassroomCount(); index++) {
+                lookupClassroom(source.classroomName(index));
+            }
+            snapshotFullyLoaded = true;
+        }
+        return classrooms.values();
+    }
+
+    private Classroom getClassroomOrThrow(String className) {
+        Classroom classroom = lookupClassroom(className);
         if (classroom == null) {
             throw new NoSuchElementException("Classroom [" + className + "] not found.");
         }
-        
-        List<Student> students = classroom.getEnrolledStudents();
-        if (students.isEmpty()) {
-            System.out.println("No students enrolled in [" + className + "].");
-            return;
+        return classroom;
+    }
+
+    private Student getStudentOrThrow(String studentId) {
+        Student student = lookupStudent(studentId);
+        if (student == null) {
+            throw new NoSuchElementException("Student [" + studentId + "] not found.");
         }
-        
-        System.out.println("\n--- Students in [" + className + "] ---");
-        students.forEach(s -> System.out.printf("ID: %s | Name: %s\n", s.getId(), s.getName()));
-        System.out.println("-------------------------------------\n");
+        return student;
+    }
+
+    private Assignment getAssignmentOrThrow(Classroom classroom, String assignmentName) {
+        Assignment assignment = classroom.findAssignment(assignmentName);
+        if (assignment == null) {
+            throw new NoSuchElementException("Assignment '" + assignmentName + "' not found in class [" + classroom.getName() + "].");
+        }
+        return assignment;
+    }
+
+    // --- Query Views ---
+    // Roster queries read an immutable ClassroomView, so a long report sees one consistent
+    // state of each classroom and never holds up enrollments or submissions. Rendering the
+    // results is up to the caller (see ConsoleRenderer).
+
+    /**
+     * @return the classroom as it is now, for reports that ask it several questions.
+     */
+    public ClassroomView getClassroomView(String className) throws NoSuchElementException {
+        return getClassroomOrThrow(className).view();
+    }
+
+    /**
+     * @return a lazy stream with one summary per classroom, in no particular order.
+     */
+    public Stream<ClassroomSummary> classroomSummaries() {
+        return allClassrooms().stream().map(Classroom::summarize);
+    }
+
+    /**
+     * @return up to limit enrolled students in enrollment order, starting at the cursor
+     *         (0 for the first page, then the previous page's next cursor).
+     */
+    public Page<Student> getStudentsInClass(String className, int cursor, int limit) throws NoSuchElementException {
+        return getClassroomOrThrow(className).getEnrolledPage(cursor, limit);
+    }
+
+    /**
+     * @return a lazy stream of the students enrolled at the time of the call.
+     */
+    public Stream<Student> streamStudentsInClass(String className) throws NoSuchElementException {
+        return StreamSupport.stream(getClassroomOrThrow(className).enrolledSpliterator(), false);
     }
-}
\ No newline at end of file
+}
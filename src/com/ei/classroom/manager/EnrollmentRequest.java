@@ -0,0 +1,28 @@
+package com.ei.classroom.manager;
+
+/**
+ * One item of ClassroomManager.enrollAll(): enroll a student (created if new) into a classroom.
+ */
+public final class EnrollmentRequest {
+    private final String studentId;
+    private final String studentName;
+    private final String className;
+
+    public EnrollmentRequest(String studentId, String studentName, String className) {
+        this.studentId = studentId;
+        this.studentName = studentName;
+        this.className = className;
+    }
+
+    public String getStudentId() {
+        return studentId;
+    }
+
+    public String getStudentName() {
+        return studentName;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+}
@@ -0,0 +1,66 @@
+package com.ei.classroom.manager;
+
+import com.ei.classroom.util.AppLogger;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Startup and exit handling of the saved state, shared by every entry point (MainApplication
+ * and the servers) so they all read it the same way. Configured through system properties:
+ * classroom.snapshot (loaded on startup if the file exists, rewritten on exit) and
+ * classroom.journal (replayed after the snapshot, then appended to).
+ */
+public final class Storage {
+    private static final String CLASS_NAME = "Storage";
+    public static final String SNAPSHOT_PROPERTY = "classroom.snapshot";
+    public static final String JOURNAL_PROPERTY = "classroom.journal";
+
+    private Storage() {
+    }
+
+    /**
+     * Loads the configured snapshot, then replays the configured journal on top of it.
+     * Call on a fresh manager before it is used. If this throws, part of the saved state may
+     * be missing from the manager: the caller must not go on to checkpoint() it.
+     */
+    public static void open(ClassroomManager manager) throws IOException {
+        Path snapshot = configuredPath(SNAPSHOT_PROPERTY);
+        if (snapshot != null && Files.exists(snapshot)) {
+            manager.loadSnapshot(snapshot);
+        }
+        Path journal = configuredPath(JOURNAL_PROPERTY);
+        if (journal != null) {
+            manager.openJournal(journal);
+        }
+    }
+
+    /**
+     * @return a description of the configured files, for error messages.
+     */
+    public static String describe() {
+        return "snapshot " + System.getProperty(SNAPSHOT_PROPERTY) + ", journal " + System.getProperty(JOURNAL_PROPERTY);
+    }
+
+    /**
+     * Writes the configured snapshot (trimming the journal), if there is one. Failures are
+     * logged: the journal still holds everything, so nothing is lost.
+     */
+    public static void checkpoint(ClassroomManager manager) {
+        Path snapshot = configuredPath(SNAPSHOT_PROPERTY);
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            manager.checkpoint(snapshot);
+        } catch (IOException | IllegalStateException e) {
+            AppLogger.logError(CLASS_NAME, "Could not write snapshot " + snapshot + ".", e);
+        }
+    }
+
+    private static Path configuredPath(String property) {
+        String value = System.getProperty(property);
+        return value == null ? null : Paths.get(value);
+    }
+}
@@ -0,0 +1,28 @@
+package com.ei.classroom.manager;
+
+/**
+ * One item of ClassroomManager.submitAll(): record that a student submitted an assignment.
+ */
+public final class SubmissionRequest {
+    private final String studentId;
+    private final String className;
+    private final String assignmentName;
+
+    public SubmissionRequest(String studentId, String className, String assignmentName) {
+        this.studentId = studentId;
+        this.className = className;
+        this.assignmentName = assignmentName;
+    }
+
+    public String getStudentId() {
+        return studentId;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public String getAssignmentName() {
+        return assignmentName;
+    }
+}
@@ -1,16 +1,22 @@
 package com.ei.classroom.model;
 
 public class Assignment {
+    /** getDueAtMillis() of an assignment without a due date. */
+    public static final long NO_DUE_DATE = 0L;
+
     private final String name;
     private final String className;
     private final String type;
-    private boolean isSubmitted;
+    private final AssignmentStats stats;
+    private volatile Classroom classroom; // written once by the owning Classroom, under its lock
+    private int ordinal = -1;             // likewise
+    private volatile long dueAtMillis = NO_DUE_DATE;
 
     public Assignment(String name, String className, String type) {
         this.name = name;
         this.className = className;
         this.type = type;
-        this.isSubmitted = false;
+        this.stats = new AssignmentStats();
     }
 
     public String getName() {
@@ -25,16 +31,71 @@ public class Assignment {
         return type;
     }
 
-    public boolean isSubmitted() {
-        return isSubmitted;
+    /**
+     * @return the assignment's position in its classroom's schedule, or -1 before it is scheduled.
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    void scheduledIn(Classroom classroom, int ordinal) {
+        this.ordinal = ordinal;
+        this.classroom = classroom;
+    }
+
+    /**
+     * @return when the assignment is due, in epoch milliseconds, or NO_DUE_DATE.
+     */
+    public long getDueAtMillis() {
+        return dueAtMillis;
+    }
+
+    public boolean hasDueDate() {
+        return dueAtMillis != NO_DUE_DATE;
     }
 
-    public void setSubmitted(boolean submitted) {
-        isSubmitted = submitted;
+    /**
+     * Set before the assignment is scheduled; reminders are armed from it at that point.
+     */
+    public void setDueAtMillis(long dueAtMillis) {
+        this.dueAtMillis = dueAtMillis;
+    }
+
+    /**
+     * @return the live counters of this assignment, maintained by the owning Classroom.
+     */
+    public AssignmentStats getStats() {
+        return stats;
+    }
+
+    /**
+     * @return a number that changes whenever getDetails() would return something different,
+     *         so rendered details can be cached against it. The details show the classroom's
+     *         counts, so this is the version of the owning classroom (-1 before scheduling).
+     */
+    public int getVersion() {
+        Classroom owner = classroom;
+        return owner == null ? -1 : owner.getVersion();
     }
 
     public String getDetails() {
-        return String.format("%s (%s) for class %s. Status: %s.",
-                name, type, className, isSubmitted ? "Submitted" : "Pending");
+        StringBuilder details = new StringBuilder(name.length() + type.length() + className.length() + 40);
+        appendDetails(details);
+        return details.toString();
+    }
+
+    /**
+     * Appends the same text as getDetails() without building an intermediate string.
+     * The status is how many of the classroom's enrolled students have submitted; whether one
+     * particular student has is up to the classroom (see Classroom.hasSubmitted()).
+     */
+    public StringBuilder appendDetails(StringBuilder out) {
+        out.append(name).append(" (").append(type).append(") for class ").append(className).append(". Status: ");
+        Classroom owner = classroom;
+        if (owner == null) {
+            return out.append("Not scheduled.");
+        }
+        return out.append(stats.getSubmittedCount()).append(" of ").append(owner.getStats().getEnrolledCount())
+                .append(" submitted.");
     }
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.ei.classroom.model;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for one scheduled assignment: how many of the currently enrolled students have
+ * submitted it, and the aggregates of its scores. The owning Classroom keeps them current as
+ * students enroll, leave, submit and are graded, so they are read in O(1) without a lock.
+ */
+public class AssignmentStats {
+    private final LongAdder submitted;
+    private final ScoreStats scores;
+
+    public AssignmentStats() {
+        this.submitted = new LongAdder();
+        this.scores = new ScoreStats();
+    }
+
+    void submissionAdded() {
+        submitted.increment();
+    }
+
+    void submissionRemoved() {
+        submitted.decrement();
+    }
+
+    /**
+     * @return how many enrolled students have submitted the assignment.
+     */
+    public long getSubmittedCount() {
+        return submitted.sum();
+    }
+
+    public ScoreStats getScores() {
+        return scores;
+    }
+}
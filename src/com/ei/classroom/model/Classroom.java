@@ -2,42 +2,393 @@ package com.ei.classroom.model;
 
 import com.ei.classroom.util.AppLogger;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Spliterator;
 
 /**
- * Classroom entity, containing lists of students and assignments.
+ * Classroom entity, containing its roster, assignments and who has submitted what.
+ * All access goes through the classroom's own monitor, which is the per-classroom lock
+ * used by ClassroomManager. Getters return copies so callers never iterate live lists.
+ * Queries that walk the roster (listings, missing submissions, snapshots) read an immutable
+ * ClassroomView instead, so they hold the lock only for as long as taking the view takes.
  */
 public class Classroom {
     private static final String CLASS_NAME = "Classroom";
+
     private final String name;
-    private final List<Student> enrolledStudents;
+    private final Roster roster;
     private final List<Assignment> assignments;
+    private final Map<String, Assignment> assignmentsByName; // keyed by normalized name
+    private final SubmissionMatrix submissions;
+    private final ScoreSheet scores;
+    private final ClassroomStats stats;
+    private volatile int version;          // bumped under the lock by every change a view shows,
+                                           // after the counters, so a reader of it sees them too
+    private volatile ClassroomView view;   // the latest view taken, possibly out of date
 
     public Classroom(String name) {
         this.name = name;
-        this.enrolledStudents = new ArrayList<>();
+        this.roster = new Roster();
         this.assignments = new ArrayList<>();
-        AppLogger.logDebug(CLASS_NAME, "New classroom created: " + name);
+        this.assignmentsByName = new HashMap<>();
+        this.submissions = new SubmissionMatrix();
+        this.scores = new ScoreSheet();
+        this.stats = new ClassroomStats();
+        AppLogger.logDebug(CLASS_NAME, "New classroom created: {}", name);
+    }
+
+    private Classroom(ClassroomState state) {
+        this.name = state.getName();
+        this.roster = new Roster(state.getSeats(), state.getEnrolledSeats());
+        this.assignments = new ArrayList<>(state.getAssignments());
+        this.assignmentsByName = new HashMap<>();
+        this.submissions = new SubmissionMatrix();
+        this.scores = new ScoreSheet();
+        this.stats = new ClassroomStats();
+        BitSet enrolled = state.getEnrolledSeats();
+        for (int seat = enrolled.nextSetBit(0); seat >= 0; seat = enrolled.nextSetBit(seat + 1)) {
+            stats.studentEnrolled();
+        }
+        for (int i = 0; i < assignments.size(); i++) {
+            Assignment assignment = assignments.get(i);
+            BitSet submitted = state.getSubmittedSeats().get(i);
+            assignment.scheduledIn(this, i);
+            assignmentsByName.put(normalizeName(assignment.getName()), assignment);
+            submissions.restoreAssignment(submitted);
+            stats.assignmentAdded();
+            for (int seat = submitted.nextSetBit(0); seat >= 0; seat = submitted.nextSetBit(seat + 1)) {
+                if (enrolled.get(seat)) {
+                    assignment.getStats().submissionAdded();
+                    stats.submissionAdded();
+                }
+            }
+        }
+    }
+
+    /**
+     * Rebuilds a classroom from a captured state, e.g. one read back from a snapshot.
+     * The state's seat array is taken over by the new classroom.
+     */
+    public static Classroom fromState(ClassroomState state) {
+        return new Classroom(state);
+    }
+
+    /**
+     * Adds this classroom to the schedule of each enrolled student. A restored classroom does
+     * not do this itself, since only the copy that gets registered may show up in anyone's
+     * schedule; whoever registers it calls this before making it visible to other threads.
+     */
+    public synchronized void linkEnrolledStudents() {
+        for (int seat = roster.nextEnrolledSeat(0); seat >= 0; seat = roster.nextEnrolledSeat(seat + 1)) {
+            roster.studentAt(seat).joined(this);
+        }
+    }
+
+    /**
+     * @return a consistent copy of the roster, assignments and submissions.
+     */
+    public ClassroomState captureState() {
+        return view().toState();
+    }
+
+    /**
+     * @return an immutable view of the roster, schedule and submissions as they are now.
+     *         The view is cached until the next change, so asking again without one takes no
+     *         lock; a new view copies only the bitsets that changed since the previous one.
+     */
+    public ClassroomView view() {
+        ClassroomView current = view;
+        if (current != null && current.getVersion() == version) {
+            return current;
+        }
+        synchronized (this) {
+            current = view;
+            if (current == null || current.getVersion() != version) {
+                current = takeView(current);
+                view = current;
+            }
+            return current;
+        }
+    }
+
+    private ClassroomView takeView(ClassroomView previous) {
+        BitSet enrolled = previous == null ? null : previous.enrolledSeatsIfRosterAt(roster.version());
+        if (enrolled == null) {
+            enrolled = roster.enrolledSeats();
+        }
+        int assignmentCount = assignments.size();
+        BitSet[] submitted = new BitSet[assignmentCount];
+        int[] submittedCounts = new int[assignmentCount];
+        for (int i = 0; i < assignmentCount; i++) {
+            submittedCounts[i] = submissions.submittedCount(i);
+            submitted[i] = previous == null ? null : previous.submittedSeatsIfCountIs(i, submittedCounts[i]);
+            if (submitted[i] == null) {
+                submitted[i] = submissions.submittedSeats(i);
+            }
+        }
+        return new ClassroomView(name, version, roster.seatTable(), roster.seatCount(), enrolled, roster.size(),
+                roster.version(), assignments.toArray(new Assignment[0]), submitted, submittedCounts);
     }
 
     public String getName() {
         return name;
     }
 
+    /**
+     * @return a number bumped by every change to the roster, schedule or submissions.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * @return the enrolled students in enrollment order.
+     */
     public List<Student> getEnrolledStudents() {
-        return enrolledStudents;
+        return view().getEnrolledStudents();
+    }
+
+    /**
+     * Copies at most limit enrolled students, in enrollment order, starting at the cursor.
+     * @param cursor 0 for the first page, otherwise the previous page's next cursor.
+     */
+    public Page<Student> getEnrolledPage(int cursor, int limit) {
+        return view().getEnrolledPage(cursor, limit);
+    }
+
+    /**
+     * @return a sequential view of the students enrolled now, unaffected by later changes.
+     */
+    public Spliterator<Student> enrolledSpliterator() {
+        return view().enrolledSpliterator();
+    }
+
+    /**
+     * @return the live counters of this classroom; reading them takes no lock.
+     */
+    public ClassroomStats getStats() {
+        return stats;
+    }
+
+    public synchronized ClassroomSummary summarize() {
+        return new ClassroomSummary(name, roster.size(), assignments.size());
+    }
+
+    public synchronized int getEnrolledCount() {
+        return roster.size();
+    }
+
+    public synchronized boolean isEnrolled(Student student) {
+        return roster.contains(student);
+    }
+
+    public synchronized List<Assignment> getAssignments() {
+        return new ArrayList<>(assignments);
+    }
+
+    /**
+     * Adds the assignment unless one with the same name (case-insensitive) is already scheduled.
+     * @return false if the name is taken.
+     */
+    public synchronized boolean addAssignment(Assignment assignment) {
+        if (assignmentsByName.putIfAbsent(normalizeName(assignment.getName()), assignment) != null) {
+            return false;
+        }
+        assignment.scheduledIn(this, assignments.size());
+        assignments.add(assignment);
+        submissions.addAssignment();
+        stats.assignmentAdded();
+        version++;
+        return true;
+    }
+
+    /**
+     * @return the assignment with the given name (case-insensitive), or null.
+     */
+    public synchronized Assignment findAssignment(String assignmentName) {
+        return assignmentsByName.get(normalizeName(assignmentName));
+    }
+
+    // toLowerCase returns the same instance when nothing changes, so lookups by an
+    // already-lowercase name do not allocate.
+    private static String normalizeName(String assignmentName) {
+        return assignmentName.toLowerCase(Locale.ROOT);
+    }
+
+    // --- Submissions ---
+
+    /**
+     * Records that an enrolled student submitted the assignment.
+     * @return false if the student had already submitted it.
+     */
+    public synchronized boolean recordSubmission(Student student, Assignment assignment) {
+        int seat = roster.seatOf(student);
+        if (seat < 0) {
+            throw new IllegalArgumentException("Student [" + student.getId() + "] has never enrolled in [" + name + "].");
+        }
+        if (!submissions.markSubmitted(requireOwned(assignment), seat)) {
+            return false;
+        }
+        if (roster.isSeatEnrolled(seat)) {
+            assignment.getStats().submissionAdded();
+            stats.submissionAdded();
+        }
+        version++;
+        return true;
+    }
+
+    public synchronized boolean hasSubmitted(Student student, Assignment assignment) {
+        return submissions.hasSubmitted(ordinalOf(assignment), roster.seatOf(student));
+    }
+
+    public synchronized int getSubmittedCount(Assignment assignment) {
+        return submissions.submittedCount(ordinalOf(assignment));
+    }
+
+    /**
+     * @return the enrolled students who have not submitted the assignment, in enrollment order.
+     */
+    public List<Student> getMissingSubmissions(Assignment assignment) {
+        return view().getMissingSubmissions(assignment);
+    }
+
+    /**
+     * @return the assignments the student has not submitted yet, in schedule order;
+     *         empty if they are not enrolled.
+     */
+    public synchronized List<Assignment> getPendingAssignments(Student student) {
+        int seat = roster.seatOf(student);
+        if (seat < 0 || !roster.isSeatEnrolled(seat)) {
+            return new ArrayList<>();
+        }
+        List<Assignment> pending = new ArrayList<>();
+        for (Assignment assignment : assignments) {
+            if (!submissions.hasSubmitted(assignment.getOrdinal(), seat)) {
+                pending.add(assignment);
+            }
+        }
+        return pending;
+    }
+
+    // --- Scores ---
+
+    /**
+     * Lays raw scores out by seat for bulk grading. The result has one entry per seat ever
+     * handed out, NaN where no score was given; students who are not enrolled (or null) are left out.
+     * @param students and rawScores are parallel columns of the same length.
+     */
+    public synchronized double[] scoresBySeat(Student[] students, double[] rawScores) {
+        double[] bySeat = new double[roster.seatCount()];
+        Arrays.fill(bySeat, Double.NaN);
+        for (int i = 0; i < students.length; i++) {
+            int seat = students[i] == null ? -1 : roster.seatOf(students[i]);
+            if (seat >= 0 && roster.isSeatEnrolled(seat)) {
+                bySeat[seat] = rawScores[i];
+            }
+        }
+        return bySeat;
+    }
+
+    /**
+     * Stores the graded entries of a seat-indexed column as the students' scores.
+     * @return how many scores were stored.
+     */
+    public synchronized int recordScores(Assignment assignment, double[] scoresBySeat) {
+        ScoreStats classroomScores = stats.getScores();
+        int recorded = scores.record(requireOwned(assignment), scoresBySeat, assignment.getStats().getScores(), classroomScores);
+        double min = Double.NaN;
+        double max = Double.NaN;
+        for (Assignment graded : assignments) {
+            ScoreStats assignmentScores = graded.getStats().getScores();
+            if (Double.isNaN(min) || assignmentScores.getMin() < min) {
+                min = assignmentScores.getMin();
+            }
+            if (Double.isNaN(max) || assignmentScores.getMax() > max) {
+                max = assignmentScores.getMax();
+            }
+        }
+        classroomScores.setRange(min, max);
+        return recorded;
+    }
+
+    /**
+     * @return the student's score for the assignment, or NaN if they have not been graded.
+     */
+    public synchronized double getScore(Student student, Assignment assignment) {
+        return scores.score(ordinalOf(assignment), roster.seatOf(student));
+    }
+
+    /**
+     * Enrolls the student, or re-enrolls one who left; callers log the outcome.
+     * @return false if the student is already enrolled.
+     */
+    public synchronized boolean enroll(Student student) {
+        return addToRoster(student);
+    }
+
+    /**
+     * @return false if the student was not enrolled.
+     */
+    public synchronized boolean unenrollStudent(Student student) {
+        if (!roster.remove(student)) {
+            return false;
+        }
+        stats.studentLeft();
+        student.left(this);
+        countSubmissionsOf(roster.seatOf(student), false);
+        version++;
+        AppLogger.logInfo(CLASS_NAME, "Student {} unenrolled from {}", student.getId(), name);
+        return true;
+    }
+
+    private boolean addToRoster(Student student) {
+        int seatsBefore = roster.seatCount();
+        if (!roster.add(student)) {
+            return false;
+        }
+        stats.studentEnrolled();
+        student.joined(this);
+        if (roster.seatCount() == seatsBefore) { // a returning student: their submissions count again
+            countSubmissionsOf(roster.seatOf(student), true);
+        }
+        version++;
+        return true;
+    }
+
+    private void countSubmissionsOf(int seat, boolean enrolled) {
+        for (Assignment assignment : assignments) {
+            if (submissions.hasSubmitted(assignment.getOrdinal(), seat)) {
+                if (enrolled) {
+                    assignment.getStats().submissionAdded();
+                    stats.submissionAdded();
+                } else {
+                    assignment.getStats().submissionRemoved();
+                    stats.submissionRemoved();
+                }
+            }
+        }
     }
 
-    public List<Assignment> getAssignments() {
-        return assignments;
+    /**
+     * Submissions and scores are indexed by assignment ordinal, so an assignment of another
+     * classroom must not be mistaken for the one that shares its ordinal here.
+     * @return the assignment's ordinal, or -1 if it is not scheduled in this classroom.
+     */
+    private int ordinalOf(Assignment assignment) {
+        int index = assignment.getOrdinal();
+        return index >= 0 && index < assignments.size() && assignments.get(index) == assignment ? index : -1;
     }
 
-    public void enrollStudent(Student student) {
-        if (!enrolledStudents.contains(student)) {
-            enrolledStudents.add(student);
-            AppLogger.logInfo(CLASS_NAME, "Student " + student.getId() + " enrolled in " + name);
-        } else {
-            AppLogger.logInfo(CLASS_NAME, "Student " + student.getId() + " is already enrolled in " + name);
+    private int requireOwned(Assignment assignment) {
+        int index = ordinalOf(assignment);
+        if (index < 0) {
+            throw new IllegalArgumentException("Assignment '" + assignment.getName() + "' is not scheduled in [" + name + "].");
         }
+        return index;
     }
 }
@@ -0,0 +1,55 @@
+package com.ei.classroom.model;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Detached copy of everything a Classroom holds, in seat form.
+ * Used to write a classroom to a snapshot and to rebuild it from one. Seat numbers are kept
+ * as they are, so a restored classroom hands the same seats back to re-enrolling students.
+ */
+public final class ClassroomState {
+    private final String name;
+    private final Student[] seats;
+    private final BitSet enrolledSeats;
+    private final List<Assignment> assignments;
+    private final List<BitSet> submittedSeats;
+
+    /**
+     * @param seats every student that ever held a seat, indexed by seat number.
+     * @param enrolledSeats the seats currently enrolled.
+     * @param assignments assignments in scheduling order.
+     * @param submittedSeats for each assignment (same order), the seats that submitted it.
+     */
+    public ClassroomState(String name, Student[] seats, BitSet enrolledSeats,
+                          List<Assignment> assignments, List<BitSet> submittedSeats) {
+        if (assignments.size() != submittedSeats.size()) {
+            throw new IllegalArgumentException("Each assignment needs exactly one submission bitset.");
+        }
+        this.name = name;
+        this.seats = seats;
+        this.enrolledSeats = enrolledSeats;
+        this.assignments = assignments;
+        this.submittedSeats = submittedSeats;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Student[] getSeats() {
+        return seats;
+    }
+
+    public BitSet getEnrolledSeats() {
+        return enrolledSeats;
+    }
+
+    public List<Assignment> getAssignments() {
+        return assignments;
+    }
+
+    public List<BitSet> getSubmittedSeats() {
+        return submittedSeats;
+    }
+}
@@ -0,0 +1,86 @@
+package com.ei.classroom.model;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Classroom-wide counters, kept current by the Classroom under its lock and read without one.
+ * A submission counts while the student who made it is enrolled: leaving the class takes
+ * their submissions out of the totals and re-enrolling puts them back.
+ */
+public class ClassroomStats {
+    private final LongAdder enrolled;
+    private final LongAdder assignments;
+    private final LongAdder submitted;
+    private final ScoreStats scores;
+
+    public ClassroomStats() {
+        this.enrolled = new LongAdder();
+        this.assignments = new LongAdder();
+        this.submitted = new LongAdder();
+        this.scores = new ScoreStats();
+    }
+
+    void studentEnrolled() {
+        enrolled.increment();
+    }
+
+    void studentLeft() {
+        enrolled.decrement();
+    }
+
+    void assignmentAdded() {
+        assignments.increment();
+    }
+
+    void submissionAdded() {
+        submitted.increment();
+    }
+
+    void submissionRemoved() {
+        submitted.decrement();
+    }
+
+    public long getEnrolledCount() {
+        return enrolled.sum();
+    }
+
+    public long getAssignmentCount() {
+        return assignments.sum();
+    }
+
+    /**
+     * @return submissions by enrolled students, over all assignments.
+     */
+    public long getSubmittedCount() {
+        return submitted.sum();
+    }
+
+    /**
+     * @return submissions still owed: one per enrolled student and assignment, less those made.
+     */
+    public long getPendingCount() {
+        return Math.max(0, getEnrolledCount() * getAssignmentCount() - getSubmittedCount());
+    }
+
+    /**
+     * @return enrolled students of this classroom who have not submitted the assignment.
+     */
+    public long getPendingCount(AssignmentStats assignment) {
+        return Math.max(0, getEnrolledCount() - assignment.getSubmittedCount());
+    }
+
+    /**
+     * @return the fraction of owed submissions that were made, 1.0 when nothing is owed.
+     */
+    public double getSubmissionRate() {
+        long expected = getEnrolledCount() * getAssignmentCount();
+        return expected == 0 ? 1.0 : Math.min(1.0, (double) getSubmittedCount() / expected);
+    }
+
+    /**
+     * @return the aggregates of every score recorded in the classroom.
+     */
+    public ScoreStats getScores() {
+        return scores;
+    }
+}
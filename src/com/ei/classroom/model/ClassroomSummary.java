@@ -0,0 +1,28 @@
+package com.ei.classroom.model;
+
+/**
+ * Read-only counts for one classroom, as shown in classroom listings.
+ */
+public final class ClassroomSummary {
+    private final String name;
+    private final int enrolledCount;
+    private final int assignmentCount;
+
+    public ClassroomSummary(String name, int enrolledCount, int assignmentCount) {
+        this.name = name;
+        this.enrolledCount = enrolledCount;
+        this.assignmentCount = assignmentCount;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getEnrolledCount() {
+        return enrolledCount;
+    }
+
+    public int getAssignmentCount() {
+        return assignmentCount;
+    }
+}
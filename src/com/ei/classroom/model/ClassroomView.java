@@ -0,0 +1,165 @@
+package com.ei.classroom.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+
+/**
+ * Immutable point-in-time view of a classroom's roster, schedule and submissions, for reports.
+ * Everything a view answers comes from the one moment it was taken, however long the report
+ * runs, and reading it takes no lock, so writers are never held up by readers.
+ *
+ * Taking a view is cheap because most of it is shared rather than copied. The seat table is
+ * append-only, so a view keeps the live array and the seat count at the time: entries below
+ * that mark never change. The enrolled and submitted seats are copied bitsets, each reused by
+ * the next view as long as it has not changed since (see Classroom.view()).
+ * Thread-safe: nothing in it is ever written after construction.
+ */
+public final class ClassroomView {
+    private final String name;
+    private final int version;
+    private final Student[] seats;      // shared with the roster; only [0, seatCount) is read
+    private final int seatCount;
+    private final BitSet enrolledSeats; // never modified
+    private final int enrolledCount;
+    private final int rosterVersion;
+    private final Assignment[] assignments;
+    private final BitSet[] submittedSeats; // per assignment ordinal; never modified
+    private final int[] submittedCounts;   // per assignment ordinal, identifies each bitset's content
+
+    ClassroomView(String name, int version, Student[] seats, int seatCount, BitSet enrolledSeats, int enrolledCount,
+                  int rosterVersion, Assignment[] assignments, BitSet[] submittedSeats, int[] submittedCounts) {
+        this.name = name;
+        this.version = version;
+        this.seats = seats;
+        this.seatCount = seatCount;
+        this.enrolledSeats = enrolledSeats;
+        this.enrolledCount = enrolledCount;
+        this.rosterVersion = rosterVersion;
+        this.assignments = assignments;
+        this.submittedSeats = submittedSeats;
+        this.submittedCounts = submittedCounts;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the classroom's change count when the view was taken; a later view of the same
+     *         classroom with the same version holds the same data.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    public int getEnrolledCount() {
+        return enrolledCount;
+    }
+
+    public int getAssignmentCount() {
+        return assignments.length;
+    }
+
+    /**
+     * @return the scheduled assignments, in schedule order.
+     */
+    public List<Assignment> getAssignments() {
+        return Collections.unmodifiableList(Arrays.asList(assignments));
+    }
+
+    public ClassroomSummary summarize() {
+        return new ClassroomSummary(name, enrolledCount, assignments.length);
+    }
+
+    /**
+     * @return the enrolled students in enrollment order.
+     */
+    public List<Student> getEnrolledStudents() {
+        List<Student> result = new ArrayList<>(enrolledCount);
+        for (int seat = enrolledSeats.nextSetBit(0); seat >= 0; seat = enrolledSeats.nextSetBit(seat + 1)) {
+            result.add(seats[seat]);
+        }
+        return result;
+    }
+
+    /**
+     * Copies at most limit enrolled students, in enrollment order, starting at the cursor.
+     * @param cursor 0 for the first page, otherwise the previous page's next cursor.
+     */
+    public Page<Student> getEnrolledPage(int cursor, int limit) {
+        if (cursor < 0 || limit <= 0) {
+            throw new IllegalArgumentException("Cursor must be non-negative and limit positive.");
+        }
+        List<Student> items = new ArrayList<>(Math.min(limit, enrolledCount));
+        int seat = enrolledSeats.nextSetBit(cursor);
+        while (seat >= 0 && items.size() < limit) {
+            items.add(seats[seat]);
+            seat = enrolledSeats.nextSetBit(seat + 1);
+        }
+        return new Page<>(items, seat < 0 ? Page.END : seat);
+    }
+
+    /**
+     * @return a sequential view of the enrolled students, in enrollment order.
+     */
+    public Spliterator<Student> enrolledSpliterator() {
+        return new RosterSpliterator(seats, enrolledSeats, enrolledCount);
+    }
+
+    /**
+     * @return how many students ever enrolled have submitted the assignment, or 0 if it is not
+     *         scheduled in this classroom.
+     */
+    public int getSubmittedCount(Assignment assignment) {
+        int index = ordinalOf(assignment);
+        return index < 0 ? 0 : submittedCounts[index];
+    }
+
+    /**
+     * @return the enrolled students who have not submitted the assignment, in enrollment order.
+     */
+    public List<Student> getMissingSubmissions(Assignment assignment) {
+        BitSet missing = (BitSet) enrolledSeats.clone();
+        int index = ordinalOf(assignment);
+        if (index >= 0) {
+            missing.andNot(submittedSeats[index]);
+        }
+        List<Student> result = new ArrayList<>(missing.cardinality());
+        for (int seat = missing.nextSetBit(0); seat >= 0; seat = missing.nextSetBit(seat + 1)) {
+            result.add(seats[seat]);
+        }
+        return result;
+    }
+
+    /**
+     * @return a detached copy of the view, e.g. for writing a snapshot.
+     */
+    public ClassroomState toState() {
+        List<BitSet> submitted = new ArrayList<>(assignments.length);
+        for (BitSet seatsSubmitted : submittedSeats) {
+            submitted.add((BitSet) seatsSubmitted.clone());
+        }
+        return new ClassroomState(name, Arrays.copyOf(seats, seatCount), (BitSet) enrolledSeats.clone(),
+                new ArrayList<>(Arrays.asList(assignments)), submitted);
+    }
+
+    // --- Reuse by the next view of the same classroom ---
+
+    BitSet enrolledSeatsIfRosterAt(int version) {
+        return rosterVersion == version ? enrolledSeats : null;
+    }
+
+    BitSet submittedSeatsIfCountIs(int assignment, int count) {
+        return assignment < submittedCounts.length && submittedCounts[assignment] == count
+                ? submittedSeats[assignment] : null;
+    }
+
+    private int ordinalOf(Assignment assignment) {
+        int index = assignment.getOrdinal();
+        return index >= 0 && index < assignments.length && assignments[index] == assignment ? index : -1;
+    }
+}
@@ -0,0 +1,35 @@
+package com.ei.classroom.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of a query result plus the cursor to pass back for the next page.
+ * Cursors are opaque to callers; 0 starts from the beginning.
+ */
+public final class Page<T> {
+    public static final int END = -1;
+
+    private final List<T> items;
+    private final int nextCursor;
+
+    public Page(List<T> items, int nextCursor) {
+        this.items = Collections.unmodifiableList(items);
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * @return the cursor of the next page, or END if this is the last one.
+     */
+    public int getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasMore() {
+        return nextCursor != END;
+    }
+}
@@ -0,0 +1,145 @@
+package com.ei.classroom.model;
+
+import com.ei.classroom.util.IntIntHashMap;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Roster of a classroom, indexed by student ordinal.
+ * Every student gets a dense seat number the first time they enroll. Seats are handed out
+ * in enrollment order, so listing by seat keeps insertion order, and a student who
+ * re-enrolls after leaving gets their old seat back.
+ * The ordinal-to-seat index is a primitive int map, so a lookup neither boxes nor hashes
+ * and compares ID strings.
+ * Not thread-safe on its own: Classroom guards it with its monitor.
+ */
+public class Roster {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final IntIntHashMap seatsByOrdinal;
+    private final BitSet enrolledSeats;
+    private Student[] seats;
+    private int seatCount;
+    private int size;
+    private int version; // changes whenever the set of enrolled seats does
+
+    public Roster() {
+        this.seatsByOrdinal = new IntIntHashMap();
+        this.enrolledSeats = new BitSet();
+        this.seats = new Student[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Rebuilds a roster with the given seat assignment.
+     * @param seats students indexed by seat number; the array is taken over, not copied.
+     */
+    Roster(Student[] seats, BitSet enrolledSeats) {
+        this.seatsByOrdinal = new IntIntHashMap(seats.length);
+        this.enrolledSeats = (BitSet) enrolledSeats.clone();
+        this.seats = seats.length == 0 ? new Student[INITIAL_CAPACITY] : seats;
+        this.seatCount = seats.length;
+        for (int seat = 0; seat < seats.length; seat++) {
+            seatsByOrdinal.put(seats[seat].getOrdinal(), seat);
+        }
+        this.size = this.enrolledSeats.cardinality();
+    }
+
+    /**
+     * Adds the student, reusing their previous seat if they had one.
+     * @return false if the student is already enrolled.
+     */
+    public boolean add(Student student) {
+        if (student.getOrdinal() == Student.UNREGISTERED) {
+            throw new IllegalArgumentException("Student [" + student.getId() + "] is not registered with a manager.");
+        }
+        int seat = seatsByOrdinal.get(student.getOrdinal());
+        if (seat == IntIntHashMap.MISSING) {
+            seat = seatCount;
+            if (seatCount == seats.length) {
+                seats = Arrays.copyOf(seats, seatCount * 2);
+            }
+            seats[seatCount++] = student;
+            seatsByOrdinal.put(student.getOrdinal(), seat);
+        } else if (enrolledSeats.get(seat)) {
+            return false;
+        }
+        enrolledSeats.set(seat);
+        size++;
+        version++;
+        return true;
+    }
+
+    /**
+     * Removes the student from the roster. Their seat stays reserved for re-enrollment.
+     * @return false if the student was not enrolled.
+     */
+    public boolean remove(Student student) {
+        int seat = seatOf(student);
+        if (seat < 0 || !enrolledSeats.get(seat)) {
+            return false;
+        }
+        enrolledSeats.clear(seat);
+        size--;
+        version++;
+        return true;
+    }
+
+    public boolean contains(Student student) {
+        int seat = seatOf(student);
+        return seat >= 0 && enrolledSeats.get(seat);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the student's seat number, or -1 if they never enrolled.
+     */
+    public int seatOf(Student student) {
+        return seatsByOrdinal.get(student.getOrdinal()); // MISSING is -1
+    }
+
+    public Student studentAt(int seat) {
+        return seats[seat];
+    }
+
+    /**
+     * @return the first enrolled seat at or after fromSeat, or -1 if there is none.
+     */
+    public int nextEnrolledSeat(int fromSeat) {
+        return enrolledSeats.nextSetBit(fromSeat);
+    }
+
+    public boolean isSeatEnrolled(int seat) {
+        return enrolledSeats.get(seat);
+    }
+
+    /**
+     * @return a copy of the currently enrolled seat numbers.
+     */
+    public BitSet enrolledSeats() {
+        return (BitSet) enrolledSeats.clone();
+    }
+
+    /**
+     * @return the number of seats ever handed out (enrolled or not).
+     */
+    public int seatCount() {
+        return seatCount;
+    }
+
+    public int version() {
+        return version;
+    }
+
+    /**
+     * @return the live seat table, for sharing with a ClassroomView. Seats are only ever
+     *         appended and a full table is replaced rather than grown, so the entries below
+     *         the current seatCount() never change.
+     */
+    Student[] seatTable() {
+        return seats;
+    }
+
+}
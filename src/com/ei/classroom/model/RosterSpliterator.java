@@ -0,0 +1,51 @@
+package com.ei.classroom.model;
+
+import java.util.BitSet;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Walks the enrolled students of a ClassroomView in seat order. The view never changes, so
+ * the walk needs no lock and copies nothing, and it sees exactly the students enrolled when
+ * the view was taken, however long the consumer takes.
+ */
+final class RosterSpliterator implements Spliterator<Student> {
+    private final Student[] seats;
+    private final BitSet enrolledSeats;
+    private int nextSeat;
+    private long remaining;
+
+    RosterSpliterator(Student[] seats, BitSet enrolledSeats, int enrolledCount) {
+        this.seats = seats;
+        this.enrolledSeats = enrolledSeats;
+        this.nextSeat = enrolledSeats.nextSetBit(0);
+        this.remaining = enrolledCount;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Student> action) {
+        if (nextSeat < 0) {
+            return false;
+        }
+        Student student = seats[nextSeat];
+        nextSeat = enrolledSeats.nextSetBit(nextSeat + 1);
+        remaining--;
+        action.accept(student);
+        return true;
+    }
+
+    @Override
+    public Spliterator<Student> trySplit() {
+        return null; // seat order is enrollment order
+    }
+
+    @Override
+    public long estimateSize() {
+        return remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | DISTINCT | NONNULL | IMMUTABLE | SIZED;
+    }
+}
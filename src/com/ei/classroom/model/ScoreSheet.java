@@ -0,0 +1,82 @@
+package com.ei.classroom.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Adjusted scores of a classroom: one double column per assignment, indexed by seat number,
+ * with NaN for seats that have not been graded. Grading a whole class writes one flat array
+ * instead of touching a record per student. Columns are indexed by the assignment's ordinal
+ * in its classroom and created when the assignment is first graded. Scores are in memory
+ * only: Classroom.captureState() leaves them out of snapshots, and grading is not journaled.
+ * Not thread-safe on its own: Classroom guards it with its monitor.
+ */
+public class ScoreSheet {
+    private final List<double[]> columns;
+
+    public ScoreSheet() {
+        this.columns = new ArrayList<>();
+    }
+
+    /**
+     * Stores every graded (non-NaN) entry of the seat-indexed column, replacing earlier scores,
+     * and moves both aggregates from the replaced scores to the new ones. The assignment's
+     * min and max are recomputed from its column; the classroom's are left to the caller.
+     * @return how many scores were stored.
+     */
+    public int record(int assignment, double[] scoresBySeat, ScoreStats assignmentScores, ScoreStats classroomScores) {
+        while (columns.size() <= assignment) {
+            columns.add(null);
+        }
+        double[] column = columns.get(assignment);
+        if (column == null || column.length < scoresBySeat.length) {
+            double[] grown = new double[scoresBySeat.length];
+            int kept = column == null ? 0 : column.length;
+            if (kept > 0) {
+                System.arraycopy(column, 0, grown, 0, kept);
+            }
+            Arrays.fill(grown, kept, grown.length, Double.NaN);
+            column = grown;
+            columns.set(assignment, column);
+        }
+        int recorded = 0;
+        for (int seat = 0; seat < scoresBySeat.length; seat++) {
+            double score = scoresBySeat[seat];
+            if (!Double.isNaN(score)) {
+                double previous = column[seat];
+                if (!Double.isNaN(previous)) {
+                    assignmentScores.remove(previous);
+                    classroomScores.remove(previous);
+                }
+                column[seat] = score;
+                assignmentScores.add(score);
+                classroomScores.add(score);
+                recorded++;
+            }
+        }
+        double min = Double.NaN;
+        double max = Double.NaN;
+        for (double score : column) {
+            if (Double.isNaN(score)) {
+                continue;
+            }
+            if (Double.isNaN(min) || score < min) {
+                min = score;
+            }
+            if (Double.isNaN(max) || score > max) {
+                max = score;
+            }
+        }
+        assignmentScores.setRange(min, max);
+        return recorded;
+    }
+
+    /**
+     * @return the seat's score, or NaN if it has not been graded.
+     */
+    public double score(int assignment, int seat) {
+        double[] column = assignment < 0 || assignment >= columns.size() ? null : columns.get(assignment);
+        return column == null || seat < 0 || seat >= column.length ? Double.NaN : column[seat];
+    }
+}
@@ -0,0 +1,93 @@
+package com.ei.classroom.model;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running aggregates of a set of scores: count, mean, min, max and a histogram of ten-point
+ * buckets. Written by the owning Classroom under its lock and read by anyone without one.
+ * Each value is always valid on its own, but a reader racing a grading run may see the count
+ * of one moment next to the sum of the next.
+ */
+public class ScoreStats {
+    public static final int BUCKET_WIDTH = 10;
+    /** [0,10), [10,20), ... [90,100), and a last bucket for 100 and above. */
+    public static final int BUCKETS = 11;
+
+    private final LongAdder count;
+    private final DoubleAdder sum;
+    private final AtomicLongArray histogram;
+    private volatile double min;
+    private volatile double max;
+
+    public ScoreStats() {
+        this.count = new LongAdder();
+        this.sum = new DoubleAdder();
+        this.histogram = new AtomicLongArray(BUCKETS);
+        this.min = Double.NaN;
+        this.max = Double.NaN;
+    }
+
+    void add(double score) {
+        count.increment();
+        sum.add(score);
+        histogram.incrementAndGet(bucketOf(score));
+    }
+
+    /**
+     * Takes back a score that is being replaced. Min and max are refreshed separately with setRange.
+     */
+    void remove(double score) {
+        count.decrement();
+        sum.add(-score);
+        histogram.decrementAndGet(bucketOf(score));
+    }
+
+    void setRange(double min, double max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return the mean score, or NaN if nothing has been graded.
+     */
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? Double.NaN : sum.sum() / n;
+    }
+
+    /**
+     * @return the lowest score, or NaN if nothing has been graded.
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * @return the highest score, or NaN if nothing has been graded.
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * @return a copy of the bucket counts; see BUCKETS.
+     */
+    public long[] getHistogram() {
+        long[] result = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            result[i] = histogram.get(i);
+        }
+        return result;
+    }
+
+    // Negative scores count towards the first bucket.
+    static int bucketOf(double score) {
+        return score > 0 ? (int) Math.min(BUCKETS - 1, score / BUCKET_WIDTH) : 0;
+    }
+}
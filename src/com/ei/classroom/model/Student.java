@@ -1,24 +1,40 @@
 package com.ei.classroom.model;
 
-import com.ei.classroom.observer.NotificationObserver;
-import com.ei.classroom.observer.NotificationSystem;
-import com.ei.classroom.util.AppLogger;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
+/**
+ * Student entity. Submission notifications are published by ClassroomManager through
+ * the SubmissionEventBus, so students carry no observer lists of their own.
+ * Each student also knows the classrooms they are enrolled in: a Classroom updates this
+ * under its own lock whenever its roster changes, so it can be read without scanning rosters.
+ */
+public class Student {
+    /** The ordinal of a student that no ClassroomManager registered; it cannot be enrolled. */
+    public static final int UNREGISTERED = -1;
+    private static final Classroom[] NO_CLASSROOMS = new Classroom[0];
 
-public class Student implements NotificationSystem {
-    private static final String CLASS_NAME = "Student";
     private final String id;
     private final String name;
-    private final List<NotificationObserver> observers; // Teachers/Parents
-    private final List<Assignment> submittedAssignments;
+    private final int ordinal;
+    private volatile Classroom[] classrooms; // replaced, never modified, under this student's lock
 
+    /**
+     * Creates a student outside any manager, such as a parsed record; it cannot be enrolled.
+     */
     public Student(String id, String name) {
+        this(id, name, UNREGISTERED);
+    }
+
+    /**
+     * @param ordinal the student's ordinal, handed out by the ClassroomManager registering it.
+     */
+    public Student(String id, String name, int ordinal) {
         this.id = id;
         this.name = name;
-        this.observers = new ArrayList<>();
-        this.submittedAssignments = new ArrayList<>();
+        this.ordinal = ordinal;
+        this.classrooms = NO_CLASSROOMS;
     }
 
     public String getId() {
@@ -28,43 +44,64 @@ public class Student implements NotificationSystem {
     public String getName() {
         return name;
     }
-    
-    // --- Observer Pattern Implementation (Subject) ---
 
-    @Override
-    public void attach(NotificationObserver observer) {
-        if (!observers.contains(observer)) {
-            observers.add(observer);
-            AppLogger.logDebug(CLASS_NAME, name + " now observed by " + observer.getClass().getSimpleName());
-        }
+    /**
+     * @return a small number unique to this student within its ClassroomManager, or UNREGISTERED.
+     * The manager hands them out densely as it registers students (those read from a snapshot
+     * keep their position in it), one per ID. Rosters index students by it rather than by ID.
+     */
+    public int getOrdinal() {
+        return ordinal;
     }
 
-    @Override
-    public void detach(NotificationObserver observer) {
-        observers.remove(observer);
+    /**
+     * @return the classrooms the student is enrolled in, in the order they joined them
+     *         (classrooms restored from a snapshot come in the order they were read).
+     */
+    public List<Classroom> getClassrooms() {
+        return Collections.unmodifiableList(Arrays.asList(classrooms));
     }
 
-    @Override
-    public void notifyObservers(String message) {
-        AppLogger.logDebug(CLASS_NAME, "Notifying observers: " + message);
-        for (NotificationObserver observer : observers) {
-            observer.update(message);
+    // Called by Classroom while holding its own lock; classroom locks are always taken first.
+    synchronized void joined(Classroom classroom) {
+        Classroom[] current = classrooms;
+        for (Classroom existing : current) {
+            if (existing == classroom) {
+                return;
+            }
         }
+        Classroom[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = classroom;
+        classrooms = next;
     }
-    
-    // --- Core Logic ---
 
-    public void submitAssignment(Assignment assignment) {
-        assignment.setSubmitted(true);
-        submittedAssignments.add(assignment);
-        
-        // Notify observers about the submission event
-        String message = String.format("Assignment '%s' submitted by Student [%s] in class %s.", 
-                                        assignment.getName(), this.id, assignment.getClassName());
-        this.notifyObservers(message);
+    synchronized void left(Classroom classroom) {
+        Classroom[] current = classrooms;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == classroom) {
+                Classroom[] next = new Classroom[current.length - 1];
+                System.arraycopy(current, 0, next, 0, i);
+                System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                classrooms = next;
+                return;
+            }
+        }
     }
 
-    public List<Assignment> getSubmittedAssignments() {
-        return submittedAssignments;
+    // Students are identified by their ID, so rosters can index them by it.
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Student)) {
+            return false;
+        }
+        return id.equals(((Student) other).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
     }
 }
@@ -0,0 +1,79 @@
+package com.ei.classroom.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Records which students of a classroom have submitted which assignments.
+ * Each assignment owns one bitset over the roster's seat numbers, so a submission costs one
+ * bit instead of a list entry per student, and "who is missing" is a single word-wise
+ * and-not against the enrolled seats. Bitsets are indexed by the assignment's ordinal in its
+ * classroom; -1 stands for an assignment the classroom does not have. Bits are only ever set,
+ * so an assignment's submitted count also tells whether its bitset changed.
+ * Not thread-safe on its own: Classroom guards it with its monitor.
+ */
+public class SubmissionMatrix {
+    private final List<BitSet> submittedSeats;
+    private int[] submittedCounts;
+
+    public SubmissionMatrix() {
+        this.submittedSeats = new ArrayList<>();
+        this.submittedCounts = new int[8];
+    }
+
+    /**
+     * Adds the bitset of the next assignment, whose ordinal is the current assignment count.
+     */
+    public void addAssignment() {
+        append(new BitSet());
+    }
+
+    /**
+     * Adds the next assignment with an existing set of submitted seats (copied).
+     */
+    public void restoreAssignment(BitSet submitted) {
+        append((BitSet) submitted.clone());
+    }
+
+    private void append(BitSet submitted) {
+        int assignment = submittedSeats.size();
+        if (assignment == submittedCounts.length) {
+            submittedCounts = Arrays.copyOf(submittedCounts, assignment * 2);
+        }
+        submittedCounts[assignment] = submitted.cardinality();
+        submittedSeats.add(submitted);
+    }
+
+    /**
+     * @return a copy of the seats that submitted the assignment.
+     */
+    public BitSet submittedSeats(int assignment) {
+        return assignment < 0 ? new BitSet() : (BitSet) submittedSeats.get(assignment).clone();
+    }
+
+    /**
+     * @return false if the seat had already submitted the assignment.
+     */
+    public boolean markSubmitted(int assignment, int seat) {
+        BitSet submitted = submittedSeats.get(assignment);
+        if (submitted.get(seat)) {
+            return false;
+        }
+        submitted.set(seat);
+        submittedCounts[assignment]++;
+        return true;
+    }
+
+    public boolean hasSubmitted(int assignment, int seat) {
+        return assignment >= 0 && seat >= 0 && submittedSeats.get(assignment).get(seat);
+    }
+
+    /**
+     * @return how many seats have submitted the assignment, enrolled or not.
+     */
+    public int submittedCount(int assignment) {
+        return assignment < 0 ? 0 : submittedCounts[assignment];
+    }
+}
@@ -0,0 +1,271 @@
+package com.ei.classroom.observer;
+
+import com.ei.classroom.util.AppLogger;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Delivers notifications to observers on a background thread.
+ * Subjects attach the dispatcher as their observer; update() only enqueues the event on a
+ * bounded queue, and a single worker thread drains it in batches and calls the real observers
+ * in order. A slow observer therefore delays other notifications, never the submitting thread.
+ * Deadline events share the queue and the backpressure policy but are never coalesced.
+ */
+public class AsyncNotificationDispatcher implements NotificationSystem, NotificationObserver {
+    private static final String CLASS_NAME = "AsyncNotificationDispatcher";
+
+    /**
+     * What update() does when the queue is full.
+     */
+    public enum BackpressurePolicy {
+        /** Wait for the worker to make room. */
+        BLOCK,
+        /** Discard the oldest pending event to make room. */
+        DROP_OLDEST,
+        /** Merge an event into an equal pending one; fall back to DROP_OLDEST when full. */
+        COALESCE
+    }
+
+    private static final class Pending {
+        private final SubmissionEvent event;    // exactly one of event and deadline is set
+        private final DeadlineEvent deadline;
+        private final long enqueuedAtNanos;
+
+        private Pending(SubmissionEvent event, DeadlineEvent deadline, long enqueuedAtNanos) {
+            this.event = event;
+            this.deadline = deadline;
+            this.enqueuedAtNanos = enqueuedAtNanos;
+        }
+    }
+
+    private final CopyOnWriteArrayList<NotificationObserver> observers;
+    private final int capacity;
+    private final int batchSize;
+    private final BackpressurePolicy policy;
+
+    private final ReentrantLock lock;
+    private final Condition notEmpty;
+    private final Condition notFull;
+    private final ArrayDeque<Pending> queue;
+    private final Set<SubmissionEvent> pendingEvents; // only used by COALESCE
+    private final Thread worker;
+    private volatile boolean running;
+
+    // --- Metrics ---
+    private final AtomicLong dispatchedCount;
+    private final AtomicLong droppedCount;
+    private final AtomicLong coalescedCount;
+    private final AtomicLong totalLatencyNanos;
+    private final AtomicLong maxLatencyNanos;
+
+    public AsyncNotificationDispatcher(int capacity, int batchSize, BackpressurePolicy policy) {
+        if (capacity <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Capacity and batch size must be positive.");
+        }
+        this.observers = new CopyOnWriteArrayList<>();
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.policy = policy;
+        this.lock = new ReentrantLock();
+        this.notEmpty = lock.newCondition();
+        this.notFull = lock.newCondition();
+        this.queue = new ArrayDeque<>(capacity);
+        this.pendingEvents = new HashSet<>();
+        this.dispatchedCount = new AtomicLong();
+        this.droppedCount = new AtomicLong();
+        this.coalescedCount = new AtomicLong();
+        this.totalLatencyNanos = new AtomicLong();
+        this.maxLatencyNanos = new AtomicLong();
+        this.running = true;
+        this.worker = new Thread(this::runWorker, "notification-dispatcher");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    // --- NotificationSystem (downstream observers) ---
+
+    @Override
+    public void attach(NotificationObserver observer) {
+        observers.addIfAbsent(observer);
+    }
+
+    @Override
+    public void detach(NotificationObserver observer) {
+        observers.remove(observer);
+    }
+
+    /**
+     * Enqueues the event for asynchronous delivery, applying the backpressure policy when full.
+     */
+    @Override
+    public void notifyObservers(SubmissionEvent event) {
+        enqueue(event, null);
+    }
+
+    /**
+     * Enqueues the deadline event for asynchronous delivery, like notifyObservers().
+     */
+    @Override
+    public void notifyDeadline(DeadlineEvent event) {
+        enqueue(null, event);
+    }
+
+    private void enqueue(SubmissionEvent event, DeadlineEvent deadline) {
+        lock.lock();
+        try {
+            if (!running) {
+                droppedCount.incrementAndGet();
+                return;
+            }
+            if (policy == BackpressurePolicy.COALESCE && event != null && pendingEvents.contains(event)) {
+                coalescedCount.incrementAndGet();
+                return;
+            }
+            while (queue.size() >= capacity) {
+                if (policy == BackpressurePolicy.BLOCK) {
+                    notFull.awaitUninterruptibly();
+                    if (!running) {
+                        droppedCount.incrementAndGet();
+                        return;
+                    }
+                } else {
+                    Pending dropped = queue.pollFirst();
+                    pendingEvents.remove(dropped.event);
+                    droppedCount.incrementAndGet();
+                }
+            }
+            queue.addLast(new Pending(event, deadline, System.nanoTime()));
+            if (policy == BackpressurePolicy.COALESCE && event != null) {
+                pendingEvents.add(event);
+            }
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // --- NotificationObserver (upstream subjects) ---
+
+    @Override
+    public void update(SubmissionEvent event) {
+        notifyObservers(event);
+    }
+
+    @Override
+    public void onDeadline(DeadlineEvent event) {
+        notifyDeadline(event);
+    }
+
+    // --- Worker ---
+
+    private void runWorker() {
+        Pending[] batch = new Pending[batchSize];
+        while (true) {
+            int count = 0;
+            lock.lock();
+            try {
+                while (queue.isEmpty() && running) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (queue.isEmpty()) {
+                    return; // shut down and fully drained
+                }
+                while (count < batchSize && !queue.isEmpty()) {
+                    Pending pending = queue.pollFirst();
+                    pendingEvents.remove(pending.event);
+                    batch[count++] = pending;
+                }
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            dispatch(batch, count);
+        }
+    }
+
+    private void dispatch(Pending[] batch, int count) {
+        for (NotificationObserver observer : observers) {
+            for (int i = 0; i < count; i++) {
+                try {
+                    if (batch[i].deadline != null) {
+                        observer.onDeadline(batch[i].deadline);
+                    } else {
+                        observer.update(batch[i].event);
+                    }
+                } catch (RuntimeException e) {
+                    AppLogger.logError(CLASS_NAME, "Observer " + observer.getClass().getSimpleName() + " failed.", e);
+                }
+            }
+        }
+        long now = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            recordLatency(now - batch[i].enqueuedAtNanos);
+            batch[i] = null;
+        }
+        dispatchedCount.addAndGet(count);
+    }
+
+    private void recordLatency(long latencyNanos) {
+        totalLatencyNanos.addAndGet(latencyNanos);
+        long max = maxLatencyNanos.get();
+        while (latencyNanos > max && !maxLatencyNanos.compareAndSet(max, latencyNanos)) {
+            max = maxLatencyNanos.get();
+        }
+    }
+
+    /**
+     * Stops accepting events, delivers everything already queued and waits for the worker.
+     */
+    public void shutdown() {
+        lock.lock();
+        try {
+            running = false;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // --- Metrics ---
+
+    public int getQueueDepth() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getDispatchedCount() {
+        return dispatchedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    public double getAverageLatencyMicros() {
+        long dispatched = dispatchedCount.get();
+        return dispatched == 0 ? 0.0 : totalLatencyNanos.get() / 1000.0 / dispatched;
+    }
+
+    public double getMaxLatencyMicros() {
+        return maxLatencyNanos.get() / 1000.0;
+    }
+}
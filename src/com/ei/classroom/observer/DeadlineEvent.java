@@ -0,0 +1,103 @@
+package com.ei.classroom.observer;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable notice that an assignment's due date is near or has passed, delivered to observers.
+ * It names the students who had not submitted when it was raised; a large classroom produces
+ * several events for the same deadline, each carrying one batch of student IDs.
+ */
+public final class DeadlineEvent {
+    /**
+     * Why the event was raised.
+     */
+    public enum Kind {
+        /** The due date is coming up. */
+        REMINDER,
+        /** The due date has passed. */
+        OVERDUE
+    }
+
+    private final Kind kind;
+    private final String className;
+    private final String assignmentName;
+    private final String assignmentType;
+    private final long dueAtMillis;
+    private final List<String> studentIds;
+    private final int totalMissing;
+    private final long timestampMillis;
+
+    /**
+     * @param studentIds this batch of students who have not submitted; not copied.
+     * @param totalMissing how many students had not submitted, across all batches.
+     */
+    public DeadlineEvent(Kind kind, String className, String assignmentName, String assignmentType,
+                         long dueAtMillis, String[] studentIds, int totalMissing, long timestampMillis) {
+        this.kind = kind;
+        this.className = className;
+        this.assignmentName = assignmentName;
+        this.assignmentType = assignmentType;
+        this.dueAtMillis = dueAtMillis;
+        this.studentIds = Collections.unmodifiableList(Arrays.asList(studentIds));
+        this.totalMissing = totalMissing;
+        this.timestampMillis = timestampMillis;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public String getAssignmentName() {
+        return assignmentName;
+    }
+
+    public String getAssignmentType() {
+        return assignmentType;
+    }
+
+    public long getDueAtMillis() {
+        return dueAtMillis;
+    }
+
+    public List<String> getStudentIds() {
+        return studentIds;
+    }
+
+    public int getTotalMissing() {
+        return totalMissing;
+    }
+
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    /**
+     * Appends the human-readable notification text to the given builder.
+     */
+    public StringBuilder appendTo(StringBuilder builder) {
+        builder.append("Assignment '").append(assignmentName).append("' in class ").append(className)
+                .append(kind == Kind.REMINDER ? " is due at " : " was due at ")
+                .append(Instant.ofEpochMilli(dueAtMillis)).append("; ").append(totalMissing)
+                .append(" student(s) have not submitted");
+        if (studentIds.size() < totalMissing) {
+            builder.append(" (").append(studentIds.size()).append(" in this batch)");
+        }
+        return builder.append('.');
+    }
+
+    public String describe() {
+        return appendTo(new StringBuilder(96 + assignmentName.length() + className.length())).toString();
+    }
+
+    @Override
+    public String toString() {
+        return describe();
+    }
+}
@@ -3,7 +3,15 @@ package com.ei.classroom.observer;
 public interface NotificationObserver {
     /**
      * Action to be taken when the subject state changes.
-     * @param message The notification message.
+     * @param event The submission that happened.
      */
-    void update(String message);
+    void update(SubmissionEvent event);
+
+    /**
+     * Action to be taken when an assignment's due date is near or has passed.
+     * Ignored unless overridden.
+     * @param event One batch of the students who have not submitted.
+     */
+    default void onDeadline(DeadlineEvent event) {
+    }
 }
\ No newline at end of file
@@ -5,5 +5,7 @@ public interface NotificationSystem {
 
     void detach(NotificationObserver observer);
 
-    void notifyObservers(String message);
+    void notifyObservers(SubmissionEvent event);
+
+    void notifyDeadline(DeadlineEvent event);
 }
\ No newline at end of file
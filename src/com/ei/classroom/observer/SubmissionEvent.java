@@ -0,0 +1,83 @@
+package com.ei.classroom.observer;
+
+/**
+ * Immutable record of one assignment submission, delivered to observers.
+ * It carries only the raw fields; text is rendered on demand by sinks that need it.
+ * Two events are equal when they describe the same student, class and assignment,
+ * regardless of when they happened.
+ */
+public final class SubmissionEvent {
+    private final String studentId;
+    private final String className;
+    private final String assignmentName;
+    private final String assignmentType;
+    private final long timestampMillis;
+
+    public SubmissionEvent(String studentId, String className, String assignmentName, String assignmentType,
+                           long timestampMillis) {
+        this.studentId = studentId;
+        this.className = className;
+        this.assignmentName = assignmentName;
+        this.assignmentType = assignmentType;
+        this.timestampMillis = timestampMillis;
+    }
+
+    public String getStudentId() {
+        return studentId;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public String getAssignmentName() {
+        return assignmentName;
+    }
+
+    public String getAssignmentType() {
+        return assignmentType;
+    }
+
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    /**
+     * Appends the human-readable notification text to the given builder.
+     */
+    public StringBuilder appendTo(StringBuilder builder) {
+        return builder.append("Assignment '").append(assignmentName)
+                .append("' submitted by Student [").append(studentId)
+                .append("] in class ").append(className).append('.');
+    }
+
+    public String describe() {
+        return appendTo(new StringBuilder(64 + assignmentName.length() + className.length())).toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof SubmissionEvent)) {
+            return false;
+        }
+        SubmissionEvent that = (SubmissionEvent) other;
+        return studentId.equals(that.studentId)
+                && className.equals(that.className)
+                && assignmentName.equals(that.assignmentName);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = studentId.hashCode();
+        result = 31 * result + className.hashCode();
+        return 31 * result + assignmentName.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return describe();
+    }
+}
@@ -0,0 +1,121 @@
+package com.ei.classroom.observer;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Central subject for submission and deadline events (Observer Pattern).
+ * Observers subscribe to everything, to one classroom or to one assignment type, and each event
+ * is routed only to the matching observers. Routes are resolved once per (classroom, type) pair
+ * into a deduplicated array and cached until the subscriptions change, so publishing is two
+ * map lookups and an array walk.
+ */
+public class SubmissionEventBus implements NotificationSystem, NotificationObserver {
+    private static final NotificationObserver[] NO_OBSERVERS = new NotificationObserver[0];
+
+    // Subscriptions, guarded by "this"
+    private final Set<NotificationObserver> globalSubscribers;
+    private final Map<String, Set<NotificationObserver>> classroomSubscribers;
+    private final Map<String, Set<NotificationObserver>> typeSubscribers;
+
+    // classroom -> assignment type -> observers; replaced wholesale whenever subscriptions change
+    private volatile ConcurrentHashMap<String, ConcurrentHashMap<String, NotificationObserver[]>> routes;
+
+    public SubmissionEventBus() {
+        this.globalSubscribers = new LinkedHashSet<>();
+        this.classroomSubscribers = new HashMap<>();
+        this.typeSubscribers = new HashMap<>();
+        this.routes = new ConcurrentHashMap<>();
+    }
+
+    // --- Subscriptions ---
+
+    /**
+     * Subscribes the observer to every submission.
+     */
+    @Override
+    public synchronized void attach(NotificationObserver observer) {
+        globalSubscribers.add(observer);
+        invalidateRoutes();
+    }
+
+    /**
+     * Removes all of the observer's subscriptions.
+     */
+    @Override
+    public synchronized void detach(NotificationObserver observer) {
+        globalSubscribers.remove(observer);
+        classroomSubscribers.values().forEach(set -> set.remove(observer));
+        typeSubscribers.values().forEach(set -> set.remove(observer));
+        invalidateRoutes();
+    }
+
+    public synchronized void subscribeToClassroom(NotificationObserver observer, String className) {
+        classroomSubscribers.computeIfAbsent(className, k -> new LinkedHashSet<>()).add(observer);
+        invalidateRoutes();
+    }
+
+    /**
+     * @param assignmentType the assignment's type as reported by Assignment.getType().
+     */
+    public synchronized void subscribeToType(NotificationObserver observer, String assignmentType) {
+        typeSubscribers.computeIfAbsent(assignmentType, k -> new LinkedHashSet<>()).add(observer);
+        invalidateRoutes();
+    }
+
+    private void invalidateRoutes() {
+        routes = new ConcurrentHashMap<>();
+    }
+
+    // --- Publishing ---
+
+    /**
+     * Delivers the event to every observer subscribed to it, each exactly once.
+     */
+    @Override
+    public void notifyObservers(SubmissionEvent event) {
+        for (NotificationObserver observer : routeFor(event.getClassName(), event.getAssignmentType())) {
+            observer.update(event);
+        }
+    }
+
+    /**
+     * Lets the bus sit behind another NotificationSystem, e.g. an AsyncNotificationDispatcher.
+     */
+    @Override
+    public void update(SubmissionEvent event) {
+        notifyObservers(event);
+    }
+
+    /**
+     * Delivers the deadline event to the same observers a submission of that assignment would reach.
+     */
+    @Override
+    public void notifyDeadline(DeadlineEvent event) {
+        for (NotificationObserver observer : routeFor(event.getClassName(), event.getAssignmentType())) {
+            observer.onDeadline(event);
+        }
+    }
+
+    @Override
+    public void onDeadline(DeadlineEvent event) {
+        notifyDeadline(event);
+    }
+
+    private NotificationObserver[] routeFor(String className, String assignmentType) {
+        // A route built after a concurrent change lands in the discarded table, never the new one.
+        ConcurrentHashMap<String, ConcurrentHashMap<String, NotificationObserver[]>> table = routes;
+        return table.computeIfAbsent(className, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(assignmentType, type -> buildRoute(className, type));
+    }
+
+    private synchronized NotificationObserver[] buildRoute(String className, String assignmentType) {
+        Set<NotificationObserver> route = new LinkedHashSet<>(globalSubscribers);
+        route.addAll(classroomSubscribers.getOrDefault(className, Set.of()));
+        route.addAll(typeSubscribers.getOrDefault(assignmentType, Set.of()));
+        return route.isEmpty() ? NO_OBSERVERS : route.toArray(NO_OBSERVERS);
+    }
+}
@@ -16,7 +16,12 @@ public class Teacher implements NotificationObserver {
     }
 
     @Override
-    public void update(String message) {
-        AppLogger.logInfo(CLASS_NAME, "Notification for " + name + ": " + message);
+    public void update(SubmissionEvent event) {
+        AppLogger.logInfo(CLASS_NAME, "Notification for {}: {}", name, event); // rendered only if INFO is on
+    }
+
+    @Override
+    public void onDeadline(DeadlineEvent event) {
+        AppLogger.logInfo(CLASS_NAME, "Deadline notice for {}: {}", name, event);
     }
 }
@@ -0,0 +1,535 @@
+package com.ei.classroom.persistence;
+
+import com.ei.classroom.util.AppLogger;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only write-ahead journal of ClassroomManager mutations with group commit.
+ *
+ * Callers serialize their record and enqueue it with append(), which is cheap enough to call
+ * while holding a classroom lock, so the journal order matches the order mutations were applied.
+ * A single flusher thread writes everything queued so far through the FileChannel in one call
+ * and forces it to disk once; awaitDurable() returns when the caller's record is part of such
+ * a flushed batch. Many concurrent writers therefore share one fsync.
+ *
+ * Record layout: int payload length, int CRC32 of the payload, then the payload
+ * (op code byte followed by length-prefixed UTF-8 fields).
+ *
+ * A batch that cannot be written is retried after cutting the file back to the end of the last
+ * durable batch, so no torn bytes are left in front of later records. If it still fails, the
+ * journal fails for good: nothing after it is written or reported durable, and append()
+ * refuses new records, so no acknowledged record can sit behind a torn one that replay stops at.
+ *
+ * Checkpoints keep the journal short: beginCheckpoint() switches appends to a sibling
+ * file with a ".next" suffix, the caller writes a snapshot covering everything before the switch,
+ * and completeCheckpoint() moves the new file over the old one. Replay is idempotent, so if a
+ * crash interrupts this, open() replays both files and merges them back into one.
+ * A trimmed journal starts with a CHECKPOINT record, so startsAtCheckpoint() can tell that it
+ * only makes sense on top of the snapshot it was trimmed for.
+ */
+public class Journal implements AutoCloseable {
+    private static final String CLASS_NAME = "Journal";
+    private static final int HEADER_SIZE = 8;
+    private static final int READ_BUFFER_SIZE = 1 << 20;
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+
+    /** Receives decoded records during replay. */
+    public interface RecordHandler {
+        void onRecord(JournalOp op, String[] fields);
+    }
+
+    private final Path file;
+    private final Path nextFile;
+    private final ReentrantLock lock;
+    private final Condition hasPending;
+    private final Condition flushed;
+    private final Thread flusher;
+    private List<byte[]> pending;       // guarded by lock
+    private long appendedSequence;      // guarded by lock
+    private long durableSequence;       // guarded by lock
+    private IOException failure;        // guarded by lock; once set, nothing more is written
+    private boolean running;            // guarded by lock
+    private FileChannel rotateTo;       // guarded by lock; handed to the flusher
+    private long rotateAfterSequence;   // guarded by lock
+    private boolean rotated;            // guarded by lock; appends go to nextFile
+    private FileChannel channel;        // owned by the flusher once started
+    private long durableOffset;         // owned by the flusher; end of the last forced batch in channel
+    private ByteBuffer writeBuffer;
+
+    private Journal(Path file, FileChannel channel, long durableOffset) {
+        this.file = file;
+        this.nextFile = nextFileOf(file);
+        this.channel = channel;
+        this.durableOffset = durableOffset;
+        this.lock = new ReentrantLock();
+        this.hasPending = lock.newCondition();
+        this.flushed = lock.newCondition();
+        this.pending = new ArrayList<>();
+        this.writeBuffer = ByteBuffer.allocateDirect(64 * 1024);
+        this.running = true;
+        this.flusher = new Thread(this::runFlusher, "journal-flusher");
+        this.flusher.setDaemon(true);
+    }
+
+    /**
+     * Opens (or creates) the journal, feeds every intact record to the handler and positions
+     * the journal for appending. A torn or corrupt tail left by a crash is truncated.
+     */
+    public static Journal open(Path file, RecordHandler handler) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long validEnd;
+        long appendFrom;
+        try {
+            validEnd = replay(channel, handler);
+            if (validEnd < channel.size()) {
+                AppLogger.logError(CLASS_NAME, "Truncating " + (channel.size() - validEnd)
+                        + " bytes of incomplete journal data at offset " + validEnd);
+                channel.truncate(validEnd);
+            }
+            channel.position(validEnd);
+            mergeInterruptedCheckpoint(channel, nextFileOf(file), handler);
+            appendFrom = channel.position();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        Journal journal = new Journal(file, channel, appendFrom);
+        journal.flusher.start();
+        return journal;
+    }
+
+    /**
+     * A "next" file left behind means a checkpoint was interrupted: its records came after the
+     * main file's, so they are replayed too and appended to the main file.
+     */
+    private static void mergeInterruptedCheckpoint(FileChannel channel, Path nextFile, RecordHandler handler)
+            throws IOException {
+        if (!Files.exists(nextFile)) {
+            return;
+        }
+        AppLogger.logInfo(CLASS_NAME, "Merging journal records of an interrupted checkpoint: {}", nextFile);
+        try (FileChannel next = FileChannel.open(nextFile, StandardOpenOption.READ)) {
+            long validEnd = replay(next, handler);
+            long copied = 0;
+            while (copied < validEnd) {
+                copied += next.transferTo(copied, validEnd - copied, channel);
+            }
+        }
+        channel.force(false);
+        Files.delete(nextFile);
+    }
+
+    private static Path nextFileOf(Path file) {
+        return file.resolveSibling(file.getFileName() + ".next");
+    }
+
+    /**
+     * @return true if the journal file exists and was trimmed by a checkpoint, i.e. replaying it
+     *         on its own, without the snapshot, would miss everything before the checkpoint.
+     */
+    public static boolean startsAtCheckpoint(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + 1);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // a short read only happens at the end of the file
+            }
+            return !header.hasRemaining() && header.get(HEADER_SIZE) == JournalOp.CHECKPOINT.code();
+        }
+    }
+
+    // --- Appending ---
+
+    /**
+     * Enqueues a record; it is written by the flusher thread shortly after.
+     * @return the record's sequence number, to pass to awaitDurable().
+     * @throws IllegalStateException if the journal is closed or has failed.
+     */
+    public long append(JournalOp op, String... fields) {
+        byte[] record = encode(op, fields);
+        lock.lock();
+        try {
+            if (!running) {
+                throw new IllegalStateException("Journal is closed.");
+            }
+            checkNotFailed();
+            pending.add(record);
+            hasPending.signal();
+            return ++appendedSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @throws IllegalStateException if a write has failed, so the journal takes no more records.
+     *         Callers check this before changing anything they would then have to journal.
+     */
+    public void checkWritable() {
+        lock.lock();
+        try {
+            checkNotFailed();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void checkNotFailed() {
+        if (failure != null) {
+            throw new IllegalStateException("Journal write failed earlier; no further changes are accepted: "
+                    + failure.getMessage());
+        }
+    }
+
+    /**
+     * Blocks until the record with the given sequence number has been forced to disk.
+     * @throws UncheckedIOException if the journal could not be written. The record is then not
+     *         durable and will not be replayed, although the change it describes may already be
+     *         applied in memory; the journal has failed and refuses every later record.
+     */
+    public void awaitDurable(long sequence) {
+        lock.lock();
+        try {
+            while (durableSequence < sequence && failure == null) {
+                flushed.awaitUninterruptibly();
+            }
+            if (durableSequence < sequence) {
+                throw new UncheckedIOException("Journal write failed.", failure);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runFlusher() {
+        List<byte[]> spare = new ArrayList<>();
+        while (true) {
+            List<byte[]> batch;
+            long batchEnd;
+            FileChannel nextChannel;
+            long rotateAfter;
+            lock.lock();
+            try {
+                while (pending.isEmpty() && rotateTo == null && running) {
+                    hasPending.awaitUninterruptibly();
+                }
+                if (pending.isEmpty() && rotateTo == null) {
+                    return; // closed and drained
+                }
+                batch = pending;
+                pending = spare;
+                batchEnd = appendedSequence;
+                nextChannel = rotateTo;
+                rotateAfter = rotateAfterSequence;
+                rotateTo = null;
+            } finally {
+                lock.unlock();
+            }
+
+            IOException error = null;
+            try {
+                if (failed()) {
+                    if (nextChannel != null) {
+                        nextChannel.close();
+                    }
+                    // dropped: their awaitDurable() calls throw
+                } else if (nextChannel == null) {
+                    writeDurably(batch, 0, batch.size());
+                } else {
+                    // records up to rotateAfter still belong to the old file
+                    long batchStart = batchEnd - batch.size() + 1;
+                    int split = (int) Math.max(0, Math.min(batch.size(), rotateAfter - batchStart + 1));
+                    writeDurably(batch, 0, split);
+                    channel.close();
+                    channel = nextChannel;
+                    durableOffset = channel.position(); // just past its CHECKPOINT record
+                    writeDurably(batch, split, batch.size());
+                }
+            } catch (IOException e) {
+                error = e;
+                AppLogger.logError(CLASS_NAME, "Failed to write journal batch; the journal accepts no further records.", e);
+            }
+            batch.clear();
+            spare = batch;
+
+            lock.lock();
+            try {
+                if (error != null) {
+                    failure = error;
+                } else if (failure == null) {
+                    durableSequence = batchEnd;
+                }
+                if (nextChannel != null && failure == null) {
+                    rotated = true;
+                }
+                flushed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private boolean failed() {
+        lock.lock();
+        try {
+            return failure != null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes and forces the records, retrying a failed attempt from the end of the last durable
+     * batch so that its torn bytes are overwritten rather than left in front of later records.
+     * @throws IOException if every attempt failed, or the file could not be cut back.
+     */
+    private void writeDurably(List<byte[]> batch, int from, int to) throws IOException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                writeBatch(batch, from, to);
+                durableOffset = channel.position();
+                return;
+            } catch (IOException e) {
+                if (attempt == MAX_WRITE_ATTEMPTS) {
+                    try {
+                        channel.truncate(durableOffset); // tidy up; replay would drop the tail anyway
+                    } catch (IOException ignored) {
+                        // the journal has failed either way
+                    }
+                    throw e;
+                }
+                AppLogger.logError(CLASS_NAME, "Journal write failed; retrying from offset " + durableOffset + ".", e);
+                channel.truncate(durableOffset);
+                channel.position(durableOffset);
+            }
+        }
+    }
+
+    private void writeBatch(List<byte[]> batch, int from, int to) throws IOException {
+        if (from == to) {
+            return;
+        }
+        int size = 0;
+        for (int i = from; i < to; i++) {
+            size += batch.get(i).length;
+        }
+        if (writeBuffer.capacity() < size) {
+            writeBuffer = ByteBuffer.allocateDirect(Integer.highestOneBit(size) << 1);
+        }
+        writeBuffer.clear();
+        for (int i = from; i < to; i++) {
+            writeBuffer.put(batch.get(i));
+        }
+        writeBuffer.flip();
+        while (writeBuffer.hasRemaining()) {
+            channel.write(writeBuffer);
+        }
+        channel.force(false);
+    }
+
+    // --- Checkpoints ---
+
+    /**
+     * Directs every record appended from now on to the "next" file; records appended before
+     * this call stay in the current file. Returns once the switch has happened, so a snapshot
+     * taken afterwards covers the whole current file. If an earlier checkpoint never
+     * completed, appends already go to the "next" file and nothing changes.
+     */
+    public void beginCheckpoint() throws IOException {
+        lock.lock();
+        try {
+            if (failure != null) {
+                throw new IOException("Journal write failed earlier.", failure);
+            }
+            if (rotated) {
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        FileChannel next = FileChannel.open(nextFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            next.write(ByteBuffer.wrap(encode(JournalOp.CHECKPOINT, new String[0])));
+            next.force(false);
+        } catch (IOException e) {
+            next.close();
+            throw e;
+        }
+        lock.lock();
+        try {
+            if (!running) {
+                next.close();
+                throw new IllegalStateException("Journal is closed.");
+            }
+            rotateTo = next;
+            rotateAfterSequence = appendedSequence;
+            hasPending.signal();
+            while (!rotated && failure == null) {
+                flushed.awaitUninterruptibly();
+            }
+            if (!rotated) {
+                throw new IOException("Journal write failed.", failure);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the journal file with the "next" file once the snapshot covering the old
+     * contents is safely on disk.
+     */
+    public void completeCheckpoint() throws IOException {
+        lock.lock();
+        try {
+            if (!rotated) {
+                throw new IllegalStateException("No checkpoint in progress.");
+            }
+            Files.move(nextFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            rotated = false;
+        } finally {
+            lock.unlock();
+        }
+        AppLogger.logInfo(CLASS_NAME, "Journal checkpoint completed: {}", file);
+    }
+
+    /**
+     * Flushes everything appended so far and closes the file.
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            running = false;
+            hasPending.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+    }
+
+    // --- Encoding ---
+
+    private static byte[] encode(JournalOp op, String[] fields) {
+        byte[][] encoded = new byte[fields.length][];
+        int payloadSize = 1;
+        for (int i = 0; i < fields.length; i++) {
+            encoded[i] = fields[i].getBytes(StandardCharsets.UTF_8);
+            payloadSize += 4 + encoded[i].length;
+        }
+        ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + payloadSize);
+        record.putInt(payloadSize).putInt(0).put(op.code());
+        for (byte[] field : encoded) {
+            record.putInt(field.length).put(field);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), HEADER_SIZE, payloadSize);
+        record.putInt(4, (int) crc.getValue());
+        return record.array();
+    }
+
+    /**
+     * Reads records from the start of the channel until the end or the first damaged record.
+     * @return the offset just past the last intact record.
+     */
+    private static long replay(FileChannel channel, RecordHandler handler) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        CRC32 crc = new CRC32();
+        long offset = 0;
+        long records = 0;
+        long start = System.nanoTime();
+        long fileSize = channel.size();
+        channel.position(0);
+        boolean eof = false;
+        while (true) {
+            if (!eof && channel.read(buffer) < 0) {
+                eof = true;
+            }
+            buffer.flip();
+            while (buffer.remaining() >= HEADER_SIZE) {
+                int payloadSize = buffer.getInt(buffer.position());
+                if (payloadSize <= 0 || payloadSize > fileSize - offset - HEADER_SIZE) {
+                    return offset; // corrupt length, or a record torn off by a crash
+                }
+                if (buffer.remaining() < (long) HEADER_SIZE + payloadSize) {
+                    break;
+                }
+                int expectedCrc = buffer.getInt(buffer.position() + 4);
+                int payloadStart = buffer.position() + HEADER_SIZE;
+                crc.reset();
+                crc.update(buffer.array(), payloadStart, payloadSize);
+                if ((int) crc.getValue() != expectedCrc) {
+                    return offset;
+                }
+                JournalOp op = JournalOp.fromCode(buffer.get(payloadStart));
+                String[] fields = op == null ? null : decodeFields(buffer.array(), payloadStart + 1, payloadStart + payloadSize);
+                if (fields == null) {
+                    return offset;
+                }
+                if (op != JournalOp.CHECKPOINT) {
+                    handler.onRecord(op, fields);
+                    records++;
+                }
+                buffer.position(payloadStart + payloadSize);
+                offset += HEADER_SIZE + payloadSize;
+            }
+            if (eof) {
+                break;
+            }
+            buffer.compact();
+            if (!buffer.hasRemaining()) { // a single record larger than the buffer
+                ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+                buffer.flip();
+                larger.put(buffer);
+                buffer = larger;
+            }
+        }
+        AppLogger.logInfo(CLASS_NAME, "Replayed {} journal records in {} ms.",
+                records, (System.nanoTime() - start) / 1_000_000);
+        return offset;
+    }
+
+    /**
+     * @return the fields, or null if the payload is malformed.
+     */
+    private static String[] decodeFields(byte[] data, int from, int to) {
+        List<String> fields = new ArrayList<>(3);
+        int position = from;
+        while (position < to) {
+            if (to - position < 4) {
+                return null;
+            }
+            int length = ((data[position] & 0xFF) << 24) | ((data[position + 1] & 0xFF) << 16)
+                    | ((data[position + 2] & 0xFF) << 8) | (data[position + 3] & 0xFF);
+            position += 4;
+            if (length < 0 || length > to - position) {
+                return null;
+            }
+            fields.add(new String(data, position, length, StandardCharsets.UTF_8));
+            position += length;
+        }
+        return fields.toArray(new String[0]);
+    }
+}
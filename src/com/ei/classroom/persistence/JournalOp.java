@@ -0,0 +1,38 @@
+package com.ei.classroom.persistence;
+
+/**
+ * Mutations recorded in the journal, with the fields each record carries.
+ */
+public enum JournalOp {
+    ADD_CLASSROOM(1),   // className
+    ENROLL(2),          // studentId, studentName, className
+    UNENROLL(3),        // studentId, className
+    SCHEDULE(4),        // className, assignmentName, type name (a kind's code in older journals)[, dueAtMillis]
+    SUBMIT(5),          // studentId, className, assignmentName
+    CHECKPOINT(6);      // no fields; first record of a journal trimmed by a checkpoint, never replayed
+
+    private static final JournalOp[] BY_CODE = new JournalOp[7];
+
+    static {
+        for (JournalOp op : values()) {
+            BY_CODE[op.code] = op;
+        }
+    }
+
+    private final byte code;
+
+    JournalOp(int code) {
+        this.code = (byte) code;
+    }
+
+    byte code() {
+        return code;
+    }
+
+    /**
+     * @return the op for the code, or null if the code is unknown.
+     */
+    static JournalOp fromCode(byte code) {
+        return code > 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
@@ -0,0 +1,243 @@
+package com.ei.classroom.persistence;
+
+import com.ei.classroom.model.Assignment;
+import com.ei.classroom.model.Classroom;
+import com.ei.classroom.model.ClassroomState;
+import com.ei.classroom.model.Student;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Read-only view of a snapshot file, memory-mapped and decoded on demand.
+ * Opening a snapshot only validates the header; strings, students and classrooms are read
+ * from the mapping the first time they are asked for, so a large snapshot is queryable
+ * almost immediately and only the parts actually touched are ever materialized.
+ * Students and classrooms are found through open-addressing hash tables stored in the file.
+ *
+ * Format (version 2, big-endian), written by SnapshotWriter:
+ * <pre>
+ * header      int magic, int version, int stringCount, int studentCount, int classroomCount,
+ *             int deadlineCount, then long positions of the first six sections below
+ * strings     int[stringCount + 1] offsets into the string data, then the UTF-8 string data
+ * students    per student ordinal: int id string, int name string
+ * student idx int tableSize, int[tableSize] slots holding ordinal + 1 (0 = empty)
+ * class idx   int tableSize, int[tableSize] slots holding classroom index + 1
+ * classrooms  long[classroomCount] record positions, then per record:
+ *             int name string, int seatCount, int[seatCount] student ordinals, bitset enrolled,
+ *             int assignmentCount, per assignment: int name string, int type string,
+ *             long due date (epoch millis, 0 = none), bitset submitted
+ * deadlines   int[deadlineCount] indexes of the classrooms with due dates, ending the file
+ * bitset      int wordCount, long[wordCount] (BitSet.toLongArray layout)
+ * </pre>
+ * Version 1 files, which have no due dates and no deadlines section, are still read.
+ * Thread-safe: the mapping is only read with absolute gets.
+ */
+public final class Snapshot {
+    static final int MAGIC = 0x56435331; // "VCS1"
+    static final int VERSION = 2;
+    static final int HEADER_SIZE = 6 * 4 + 6 * 8;
+
+    private final MappedByteBuffer buffer;
+    private final int stringCount;
+    private final int studentCount;
+    private final int classroomCount;
+    private final int deadlineCount;
+    private final int assignmentFieldsSize; // bytes before each assignment's bitset
+    private final int stringOffsetsPosition;
+    private final int stringDataPosition;
+    private final int studentsPosition;
+    private final int studentIndexPosition;
+    private final int classroomIndexPosition;
+    private final int classroomsPosition;
+    private final String[] strings;   // decoded lazily; racing decodes yield equal strings
+    private final Student[] students; // guarded by this, so each ordinal has one Student
+
+    private Snapshot(MappedByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a classroom snapshot.");
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION && version != 1) {
+            throw new IOException("Unsupported snapshot version " + version + " (expected " + VERSION + ").");
+        }
+        this.stringCount = buffer.getInt(8);
+        this.studentCount = buffer.getInt(12);
+        this.classroomCount = buffer.getInt(16);
+        this.deadlineCount = version == 1 ? 0 : buffer.getInt(20);
+        this.assignmentFieldsSize = version == 1 ? 8 : 16;
+        this.stringOffsetsPosition = (int) buffer.getLong(24);
+        this.stringDataPosition = (int) buffer.getLong(32);
+        this.studentsPosition = (int) buffer.getLong(40);
+        this.studentIndexPosition = (int) buffer.getLong(48);
+        this.classroomIndexPosition = (int) buffer.getLong(56);
+        this.classroomsPosition = (int) buffer.getLong(64);
+        this.strings = new String[stringCount];
+        this.students = new Student[studentCount];
+    }
+
+    /**
+     * Maps the snapshot file. Files larger than 2 GB are not supported.
+     */
+    public static Snapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot " + file + " is too large to map.");
+            }
+            // the mapping stays valid after the channel is closed
+            return new Snapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public int getStudentCount() {
+        return studentCount;
+    }
+
+    public int getClassroomCount() {
+        return classroomCount;
+    }
+
+    /**
+     * @return the indexes of the classrooms with at least one due date, so their reminders
+     *         can be armed without reading every classroom.
+     */
+    public int[] deadlineClassrooms() {
+        int[] indexes = new int[deadlineCount];
+        int position = buffer.capacity() - 4 * deadlineCount;
+        for (int i = 0; i < deadlineCount; i++) {
+            indexes[i] = buffer.getInt(position + 4 * i);
+        }
+        return indexes;
+    }
+
+    // --- Lookups ---
+
+    /**
+     * @return the student's ordinal, or -1 if the snapshot has no such student.
+     */
+    public int findStudent(String studentId) {
+        return probe(studentIndexPosition, studentId, true);
+    }
+
+    /**
+     * @return the classroom's index, or -1 if the snapshot has no such classroom.
+     */
+    public int findClassroom(String className) {
+        return probe(classroomIndexPosition, className, false);
+    }
+
+    private int probe(int tablePosition, String key, boolean studentTable) {
+        int mask = buffer.getInt(tablePosition) - 1;
+        int slot = slotOf(key.hashCode(), mask);
+        while (true) {
+            int entry = buffer.getInt(tablePosition + 4 + slot * 4);
+            if (entry == 0) {
+                return -1;
+            }
+            int candidate = entry - 1;
+            String candidateKey = studentTable ? string(studentIdString(candidate)) : classroomName(candidate);
+            if (candidateKey.equals(key)) {
+                return candidate;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    static int slotOf(int hash, int mask) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    // --- Materialization ---
+
+    /**
+     * @return the student with the given ordinal; the same instance on every call.
+     */
+    public synchronized Student student(int ordinal) {
+        Student student = students[ordinal];
+        if (student == null) {
+            int position = studentsPosition + ordinal * 8;
+            student = new Student(string(buffer.getInt(position)), string(buffer.getInt(position + 4)), ordinal);
+            students[ordinal] = student;
+        }
+        return student;
+    }
+
+    public String classroomName(int index) {
+        return string(buffer.getInt(classroomRecordPosition(index)));
+    }
+
+    /**
+     * Builds a new Classroom from its record. Not cached: the caller owns the result.
+     */
+    public Classroom materializeClassroom(int index) {
+        int position = classroomRecordPosition(index);
+        String name = string(buffer.getInt(position));
+        int seatCount = buffer.getInt(position + 4);
+        position += 8;
+        Student[] seats = new Student[seatCount];
+        for (int seat = 0; seat < seatCount; seat++) {
+            seats[seat] = student(buffer.getInt(position));
+            position += 4;
+        }
+        BitSet enrolled = readBitSet(position);
+        position += bitSetSize(position);
+
+        int assignmentCount = buffer.getInt(position);
+        position += 4;
+        List<Assignment> assignments = new ArrayList<>(assignmentCount);
+        List<BitSet> submitted = new ArrayList<>(assignmentCount);
+        for (int i = 0; i < assignmentCount; i++) {
+            Assignment assignment = new Assignment(string(buffer.getInt(position)), name, string(buffer.getInt(position + 4)));
+            if (assignmentFieldsSize > 8) {
+                assignment.setDueAtMillis(buffer.getLong(position + 8));
+            }
+            assignments.add(assignment);
+            position += assignmentFieldsSize;
+            submitted.add(readBitSet(position));
+            position += bitSetSize(position);
+        }
+        return Classroom.fromState(new ClassroomState(name, seats, enrolled, assignments, submitted));
+    }
+
+    private int classroomRecordPosition(int index) {
+        return (int) buffer.getLong(classroomsPosition + index * 8);
+    }
+
+    private int studentIdString(int ordinal) {
+        return buffer.getInt(studentsPosition + ordinal * 8);
+    }
+
+    private String string(int index) {
+        String value = strings[index];
+        if (value == null) {
+            int start = buffer.getInt(stringOffsetsPosition + index * 4);
+            int end = buffer.getInt(stringOffsetsPosition + (index + 1) * 4);
+            byte[] bytes = new byte[end - start];
+            buffer.get(stringDataPosition + start, bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+            strings[index] = value;
+        }
+        return value;
+    }
+
+    private BitSet readBitSet(int position) {
+        int words = buffer.getInt(position);
+        long[] bits = new long[words];
+        ByteBuffer view = buffer.duplicate();
+        view.position(position + 4);
+        view.asLongBuffer().get(bits);
+        return BitSet.valueOf(bits);
+    }
+
+    private int bitSetSize(int position) {
+        return 4 + buffer.getInt(position) * 8;
+    }
+}
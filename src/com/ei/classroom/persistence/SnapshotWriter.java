@@ -0,0 +1,255 @@
+package com.ei.classroom.persistence;
+
+import com.ei.classroom.model.Assignment;
+import com.ei.classroom.model.ClassroomState;
+import com.ei.classroom.model.Student;
+import com.ei.classroom.util.AppLogger;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the snapshot format read by Snapshot.
+ * Every string is stored once in a dictionary and referenced by index, rosters become int
+ * arrays of student ordinals and submissions are stored as raw bitset words. The file is
+ * written next to the target and moved into place only once it is complete and on disk,
+ * so a crash never leaves a half-written snapshot behind.
+ */
+public final class SnapshotWriter {
+    private static final String CLASS_NAME = "SnapshotWriter";
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Map<String, Integer> stringIndex;
+    private final List<byte[]> strings;
+    private final Map<String, Integer> studentOrdinals;
+    private final List<Student> students;
+    private int[] studentStrings; // id and name string index per ordinal
+    private long stringBytes;
+
+    private SnapshotWriter(int expectedStudents) {
+        this.stringIndex = new HashMap<>(expectedStudents * 3);
+        this.strings = new ArrayList<>(expectedStudents * 2);
+        this.studentOrdinals = new HashMap<>(expectedStudents * 2);
+        this.students = new ArrayList<>(expectedStudents);
+        this.studentStrings = new int[Math.max(16, expectedStudents * 2)];
+    }
+
+    /**
+     * Writes a snapshot of the given students and classrooms. Students only referenced from a
+     * roster are included automatically.
+     */
+    public static void write(Path file, Collection<Student> allStudents, List<ClassroomState> classrooms)
+            throws IOException {
+        long start = System.nanoTime();
+        SnapshotWriter writer = new SnapshotWriter(allStudents.size());
+        for (Student student : allStudents) {
+            writer.ordinalOf(student);
+        }
+        for (ClassroomState classroom : classrooms) {
+            writer.intern(classroom.getName());
+            for (Student student : classroom.getSeats()) {
+                writer.ordinalOf(student);
+            }
+            for (Assignment assignment : classroom.getAssignments()) {
+                writer.intern(assignment.getName());
+                writer.intern(assignment.getType());
+            }
+        }
+
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileOutputStream stream = new FileOutputStream(temporary.toFile())) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream, BUFFER_SIZE));
+            writer.writeTo(out, classrooms);
+            out.flush();
+            stream.getChannel().force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        AppLogger.logInfo(CLASS_NAME, "Snapshot of {} classrooms written in {} ms.",
+                classrooms.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private int intern(String value) {
+        Integer index = stringIndex.get(value);
+        if (index == null) {
+            index = strings.size();
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            strings.add(bytes);
+            stringBytes += bytes.length;
+            stringIndex.put(value, index);
+        }
+        return index;
+    }
+
+    private int ordinalOf(Student student) {
+        Integer ordinal = studentOrdinals.get(student.getId());
+        if (ordinal == null) {
+            ordinal = students.size();
+            students.add(student);
+            studentOrdinals.put(student.getId(), ordinal);
+            if (studentStrings.length < 2 * (ordinal + 1)) {
+                studentStrings = Arrays.copyOf(studentStrings, studentStrings.length * 2);
+            }
+            studentStrings[2 * ordinal] = intern(student.getId());
+            studentStrings[2 * ordinal + 1] = intern(student.getName());
+        }
+        return ordinal;
+    }
+
+    private void writeTo(DataOutputStream out, List<ClassroomState> classrooms) throws IOException {
+        int[] deadlineClassrooms = deadlineClassrooms(classrooms);
+        int studentTableSize = tableSize(students.size());
+        int classroomTableSize = tableSize(classrooms.size());
+        long stringOffsetsPosition = Snapshot.HEADER_SIZE;
+        long stringDataPosition = stringOffsetsPosition + 4L * (strings.size() + 1);
+        long studentsPosition = stringDataPosition + stringBytes;
+        long studentIndexPosition = studentsPosition + 8L * students.size();
+        long classroomIndexPosition = studentIndexPosition + 4 + 4L * studentTableSize;
+        long classroomsPosition = classroomIndexPosition + 4 + 4L * classroomTableSize;
+        if (stringBytes > Integer.MAX_VALUE) {
+            throw new IOException("Too much text for one snapshot.");
+        }
+
+        out.writeInt(Snapshot.MAGIC);
+        out.writeInt(Snapshot.VERSION);
+        out.writeInt(strings.size());
+        out.writeInt(students.size());
+        out.writeInt(classrooms.size());
+        out.writeInt(deadlineClassrooms.length);
+        out.writeLong(stringOffsetsPosition);
+        out.writeLong(stringDataPosition);
+        out.writeLong(studentsPosition);
+        out.writeLong(studentIndexPosition);
+        out.writeLong(classroomIndexPosition);
+        out.writeLong(classroomsPosition);
+
+        int offset = 0;
+        for (byte[] string : strings) {
+            out.writeInt(offset);
+            offset += string.length;
+        }
+        out.writeInt(offset);
+        for (byte[] string : strings) {
+            out.write(string);
+        }
+
+        String[] studentKeys = new String[students.size()];
+        for (int i = 0; i < students.size(); i++) {
+            studentKeys[i] = students.get(i).getId();
+            out.writeInt(studentStrings[2 * i]);
+            out.writeInt(studentStrings[2 * i + 1]);
+        }
+        writeHashTable(out, studentKeys, studentTableSize);
+
+        String[] classroomKeys = new String[classrooms.size()];
+        for (int i = 0; i < classrooms.size(); i++) {
+            classroomKeys[i] = classrooms.get(i).getName();
+        }
+        writeHashTable(out, classroomKeys, classroomTableSize);
+
+        long recordPosition = classroomsPosition + 8L * classrooms.size();
+        for (ClassroomState classroom : classrooms) {
+            out.writeLong(recordPosition);
+            recordPosition += recordSize(classroom);
+        }
+        if (recordPosition + 4L * deadlineClassrooms.length > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot would exceed 2 GB.");
+        }
+        for (ClassroomState classroom : classrooms) {
+            writeClassroom(out, classroom);
+        }
+        for (int index : deadlineClassrooms) {
+            out.writeInt(index);
+        }
+    }
+
+    private static int[] deadlineClassrooms(List<ClassroomState> classrooms) {
+        int[] indexes = new int[classrooms.size()];
+        int count = 0;
+        for (int i = 0; i < classrooms.size(); i++) {
+            for (Assignment assignment : classrooms.get(i).getAssignments()) {
+                if (assignment.hasDueDate()) {
+                    indexes[count++] = i;
+                    break;
+                }
+            }
+        }
+        return Arrays.copyOf(indexes, count);
+    }
+
+    private void writeClassroom(DataOutputStream out, ClassroomState classroom) throws IOException {
+        out.writeInt(stringIndex.get(classroom.getName()));
+        Student[] seats = classroom.getSeats();
+        out.writeInt(seats.length);
+        for (Student student : seats) {
+            out.writeInt(studentOrdinals.get(student.getId()));
+        }
+        writeBitSet(out, classroom.getEnrolledSeats());
+        List<Assignment> assignments = classroom.getAssignments();
+        out.writeInt(assignments.size());
+        for (int i = 0; i < assignments.size(); i++) {
+            Assignment assignment = assignments.get(i);
+            out.writeInt(stringIndex.get(assignment.getName()));
+            out.writeInt(stringIndex.get(assignment.getType()));
+            out.writeLong(assignment.getDueAtMillis());
+            writeBitSet(out, classroom.getSubmittedSeats().get(i));
+        }
+    }
+
+    private static long recordSize(ClassroomState classroom) {
+        long size = 8 + 4L * classroom.getSeats().length + bitSetSize(classroom.getEnrolledSeats()) + 4;
+        for (BitSet submitted : classroom.getSubmittedSeats()) {
+            size += 16 + bitSetSize(submitted);
+        }
+        return size;
+    }
+
+    private static long bitSetSize(BitSet bits) {
+        return 4 + 8L * ((bits.length() + 63) / 64);
+    }
+
+    private static void writeBitSet(DataOutputStream out, BitSet bits) throws IOException {
+        long[] words = bits.toLongArray();
+        out.writeInt(words.length);
+        for (long word : words) {
+            out.writeLong(word);
+        }
+    }
+
+    /**
+     * Writes a linear-probing table mapping each key's hash to its index + 1.
+     */
+    private static void writeHashTable(DataOutputStream out, String[] keys, int tableSize) throws IOException {
+        int[] slots = new int[tableSize];
+        int mask = tableSize - 1;
+        for (int i = 0; i < keys.length; i++) {
+            int slot = Snapshot.slotOf(keys[i].hashCode(), mask);
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = i + 1;
+        }
+        out.writeInt(tableSize);
+        for (int slot : slots) {
+            out.writeInt(slot);
+        }
+    }
+
+    /**
+     * @return a power of two at least twice the entry count, so probe chains stay short.
+     */
+    private static int tableSize(int entries) {
+        return Integer.highestOneBit(Math.max(1, entries)) << 2;
+    }
+}
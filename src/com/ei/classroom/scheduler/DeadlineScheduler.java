@@ -0,0 +1,111 @@
+package com.ei.classroom.scheduler;
+
+import com.ei.classroom.util.AppLogger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs tasks at wall-clock times on one background thread, driven by a TimerWheel.
+ * schedule() only queues the request, so callers never wait on the scheduler; its thread
+ * moves queued requests into the wheel and advances the wheel once per tick. Tasks run at
+ * most one tick late, on the scheduler thread, so they should hand slow work off elsewhere.
+ * Tasks still pending at shutdown() are dropped.
+ */
+public class DeadlineScheduler {
+    private static final String CLASS_NAME = "DeadlineScheduler";
+
+    private static final class Request {
+        private final long tick;
+        private final Runnable task;
+
+        private Request(long tick, Runnable task) {
+            this.tick = tick;
+            this.task = task;
+        }
+    }
+
+    private final long tickMillis;
+    private final TimerWheel<Runnable> wheel; // only touched by the scheduler thread
+    private final ConcurrentLinkedQueue<Request> incoming;
+    private final AtomicInteger pendingCount;
+    private final Thread thread;
+    private volatile boolean running;
+
+    public DeadlineScheduler(long tickMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick length must be positive.");
+        }
+        this.tickMillis = tickMillis;
+        this.wheel = new TimerWheel<>(System.currentTimeMillis() / tickMillis);
+        this.incoming = new ConcurrentLinkedQueue<>();
+        this.pendingCount = new AtomicInteger();
+        this.thread = new Thread(this::run, "deadline-scheduler");
+        this.thread.setDaemon(true);
+    }
+
+    public void start() {
+        running = true;
+        thread.start();
+    }
+
+    /**
+     * Runs the task on the first tick at or after atMillis (epoch milliseconds); a time
+     * already past runs on the next tick.
+     */
+    public void schedule(long atMillis, Runnable task) {
+        long tick = Math.floorDiv(atMillis + tickMillis - 1, tickMillis);
+        if (tick - System.currentTimeMillis() / tickMillis >= TimerWheel.MAX_TICKS_AHEAD) {
+            throw new IllegalArgumentException("Deadline " + atMillis + " is too far in the future.");
+        }
+        pendingCount.incrementAndGet();
+        incoming.add(new Request(tick, task));
+    }
+
+    /**
+     * @return the number of tasks scheduled but not run yet.
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * Stops the scheduler thread and waits for it; pending tasks never run.
+     */
+    public void shutdown() {
+        running = false;
+        thread.interrupt();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        List<Runnable> due = new ArrayList<>();
+        while (running) {
+            Request request;
+            while ((request = incoming.poll()) != null) {
+                wheel.schedule(request.tick, request.task);
+            }
+            wheel.advanceTo(System.currentTimeMillis() / tickMillis, due::add);
+            for (Runnable task : due) {
+                pendingCount.decrementAndGet();
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    AppLogger.logError(CLASS_NAME, "Deadline task failed.", e);
+                }
+            }
+            due.clear();
+            long nextTickMillis = (wheel.getCurrentTick() + 1) * tickMillis;
+            try {
+                Thread.sleep(Math.max(1, nextTickMillis - System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                return; // only shutdown() interrupts
+            }
+        }
+    }
+}
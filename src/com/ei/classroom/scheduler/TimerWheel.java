@@ -0,0 +1,127 @@
+package com.ei.classroom.scheduler;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel: LEVELS wheels of SLOTS buckets each, where a bucket of level n
+ * spans SLOTS^n ticks. A timer goes into the lowest level whose range reaches its deadline,
+ * and whenever a wheel wraps around, the next bucket of the level above is cascaded into the
+ * levels below. Adding a timer is O(1), and so is advancing one tick, apart from the timers
+ * that actually expire or move down a level then - however many others are pending.
+ *
+ * Not thread-safe; DeadlineScheduler only touches its wheel from its own thread.
+ */
+public final class TimerWheel<T> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 6;
+
+    /** Deadlines must lie fewer than this many ticks ahead of the current tick. */
+    public static final long MAX_TICKS_AHEAD = 1L << (SLOT_BITS * LEVELS);
+
+    private static final class Timer<T> {
+        private final long deadline;
+        private final T payload;
+        private Timer<T> next;
+
+        private Timer(long deadline, T payload) {
+            this.deadline = deadline;
+            this.payload = payload;
+        }
+    }
+
+    private final Timer<T>[][] buckets; // [level][slot], each a singly linked list
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TimerWheel(long startTick) {
+        this.buckets = (Timer<T>[][]) new Timer<?>[LEVELS][SLOTS];
+        this.currentTick = startTick;
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * @return the number of timers that have not expired yet.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds a timer that expires once the wheel reaches deadlineTick. A deadline that is not
+     * ahead of the current tick expires on the next one.
+     */
+    public void schedule(long deadlineTick, T payload) {
+        if (deadlineTick - currentTick >= MAX_TICKS_AHEAD) {
+            throw new IllegalArgumentException("Deadline tick " + deadlineTick + " is too far ahead of " + currentTick + ".");
+        }
+        insert(new Timer<>(Math.max(deadlineTick, currentTick + 1), payload));
+        size++;
+    }
+
+    /**
+     * Advances the wheel tick by tick up to toTick, handing the payload of every timer that
+     * expires on the way to the consumer, earlier ticks first. Does nothing if toTick is not
+     * ahead of the current tick.
+     */
+    public void advanceTo(long toTick, Consumer<? super T> expired) {
+        while (currentTick < toTick) {
+            if (size == 0) {
+                currentTick = toTick; // nothing to cascade or expire on the way
+                return;
+            }
+            currentTick++;
+            cascade();
+            int slot = (int) currentTick & SLOT_MASK;
+            Timer<T> timer = buckets[0][slot];
+            buckets[0][slot] = null;
+            while (timer != null) {
+                Timer<T> next = timer.next;
+                size--;
+                expired.accept(timer.payload);
+                timer = next;
+            }
+        }
+    }
+
+    /**
+     * Places the timer by how far ahead its deadline is: a bucket of level n is always
+     * cascaded before any tick it covers is reached.
+     */
+    private void insert(Timer<T> timer) {
+        long ahead = timer.deadline - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && ahead >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        int slot = (int) (timer.deadline >>> (SLOT_BITS * level)) & SLOT_MASK;
+        timer.next = buckets[level][slot];
+        buckets[level][slot] = timer;
+    }
+
+    /**
+     * Moves the buckets that start at the current tick down a level, highest level first, so
+     * timers falling through several levels end up in the current tick's level-0 bucket.
+     */
+    private void cascade() {
+        int top = 0;
+        while (top < LEVELS - 1 && (currentTick & ((1L << (SLOT_BITS * (top + 1))) - 1)) == 0) {
+            top++;
+        }
+        for (int level = top; level > 0; level--) {
+            int slot = (int) (currentTick >>> (SLOT_BITS * level)) & SLOT_MASK;
+            Timer<T> timer = buckets[level][slot];
+            buckets[level][slot] = null;
+            while (timer != null) {
+                Timer<T> next = timer.next;
+                insert(timer);
+                timer = next;
+            }
+        }
+    }
+}
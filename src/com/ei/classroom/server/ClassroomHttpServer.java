@@ -0,0 +1,464 @@
+package com.ei.classroom.server;
+
+import com.ei.classroom.manager.ClassroomManager;
+import com.ei.classroom.manager.Storage;
+import com.ei.classroom.model.Assignment;
+import com.ei.classroom.model.AssignmentStats;
+import com.ei.classroom.model.ClassroomStats;
+import com.ei.classroom.model.ClassroomSummary;
+import com.ei.classroom.model.Page;
+import com.ei.classroom.model.ScoreStats;
+import com.ei.classroom.model.Student;
+import com.ei.classroom.util.AppLogger;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Embedded HTTP/JSON front end for ClassroomManager, built on the JDK's com.sun.net.httpserver.
+ *
+ * Endpoints (request bodies are flat JSON objects):
+ * <pre>
+ * GET    /classrooms                                      list classrooms
+ * GET    /classrooms?behind=0.8                           classrooms below that submission rate
+ * POST   /classrooms                         {"name"}     add a classroom
+ * GET    /classrooms/{c}/students?cursor=0&amp;limit=100      one page of the roster
+ * POST   /classrooms/{c}/students            {"id","name"} enroll
+ * DELETE /classrooms/{c}/students/{id}                    unenroll
+ * POST   /classrooms/{c}/assignments         {"name","type"[,"due"]} schedule, due as an ISO-8601 instant
+ * POST   /classrooms/{c}/assignments/{a}/submissions {"studentId"} submit
+ * GET    /classrooms/{c}/assignments/{a}/submissions/{id}  has the student submitted
+ * GET    /classrooms/{c}/assignments/{a}/missing          who has not submitted
+ * GET    /classrooms/{c}/stats                            submission and score counters
+ * GET    /classrooms/{c}/assignments/{a}/stats            the same for one assignment
+ * GET    /students/{id}/classrooms                        the classrooms a student is in
+ * GET    /students/{id}/pending                           assignments the student has not submitted
+ * </pre>
+ * Errors map to status codes the way the manager reports them: NoSuchElementException is
+ * 404, IllegalArgumentException 400 and IllegalStateException 409.
+ *
+ * Each request runs on its own virtual thread when the JDK provides them (Java 21+), and on a
+ * cached pool of platform threads otherwise. Every response carries a Content-Length, so
+ * HTTP/1.1 clients keep their connections alive between requests.
+ */
+public class ClassroomHttpServer {
+    private static final String CLASS_NAME = "ClassroomHttpServer";
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 10_000;
+
+    static {
+        // The JDK server writes headers and body separately; without TCP_NODELAY every
+        // keep-alive response waits on the client's delayed ACK (about 40 ms).
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final ClassroomManager manager;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    public ClassroomHttpServer(ClassroomManager manager, InetSocketAddress address) throws IOException {
+        this.manager = manager;
+        this.server = HttpServer.create(address, 0);
+        this.executor = newRequestExecutor();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    public void start() {
+        server.start();
+        AppLogger.logInfo(CLASS_NAME, "Listening on port {}", getPort());
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops accepting requests, waits up to delaySeconds for running ones, then stops the threads.
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(delaySeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Uses Executors.newVirtualThreadPerTaskExecutor() when the running JDK has it, looked up
+     * reflectively so the code still compiles and runs on Java 17.
+     */
+    private static ExecutorService newRequestExecutor() {
+        try {
+            ExecutorService virtual = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            AppLogger.logInfo(CLASS_NAME, "Handling requests on virtual threads.");
+            return virtual;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            AppLogger.logInfo(CLASS_NAME, "Virtual threads unavailable; handling requests on a cached thread pool.");
+            AtomicInteger count = new AtomicInteger();
+            return Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(task, "http-worker-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    // --- Routing ---
+
+    private void handle(HttpExchange exchange) throws IOException {
+        StringBuilder body = new StringBuilder(128);
+        int status;
+        try {
+            status = route(exchange, segments(exchange.getRequestURI().getPath()), body);
+        } catch (NoSuchElementException e) {
+            status = error(body, 404, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            status = error(body, 400, e.getMessage());
+        } catch (IllegalStateException e) {
+            status = error(body, 409, e.getMessage());
+        } catch (UncheckedIOException e) {
+            AppLogger.logError(CLASS_NAME, "Persistence failure while handling " + exchange.getRequestURI(), e);
+            status = error(body, 500, "The change could not be saved.");
+        } catch (RuntimeException e) {
+            AppLogger.logError(CLASS_NAME, "Unexpected failure while handling " + exchange.getRequestURI(), e);
+            status = error(body, 500, "Internal error.");
+        }
+        send(exchange, status, body);
+    }
+
+    private int route(HttpExchange exchange, List<String> path, StringBuilder body) throws IOException {
+        String method = exchange.getRequestMethod();
+        int size = path.size();
+        if (size == 3 && "students".equals(path.get(0)) && "GET".equals(method)) {
+            return studentView(path.get(1), path.get(2), body);
+        }
+        if (size == 0 || !"classrooms".equals(path.get(0))) {
+            return error(body, 404, "No such resource.");
+        }
+        if (size == 1) {
+            if ("GET".equals(method)) {
+                String behind = query(exchange.getRequestURI().getRawQuery()).get("behind");
+                if (behind != null) {
+                    return listClassroomsBehind(Double.parseDouble(behind), body);
+                }
+                return listClassrooms(body);
+            }
+            if ("POST".equals(method)) {
+                String name = required(readObject(exchange), "name");
+                if (!manager.addClassroom(name)) {
+                    throw new IllegalStateException("Classroom [" + name + "] already exists.");
+                }
+                return ok(body, 201);
+            }
+            return error(body, 405, "Method not allowed.");
+        }
+
+        String className = path.get(1);
+        if (size == 3 && "stats".equals(path.get(2)) && "GET".equals(method)) {
+            ClassroomStats stats = manager.getClassroomStats(className);
+            body.append("{\"students\":").append(stats.getEnrolledCount())
+                    .append(",\"assignments\":").append(stats.getAssignmentCount())
+                    .append(",\"submitted\":").append(stats.getSubmittedCount())
+                    .append(",\"pending\":").append(stats.getPendingCount())
+                    .append(",\"submissionRate\":");
+            Json.appendNumber(body, stats.getSubmissionRate()).append(",\"scores\":");
+            appendScores(body, stats.getScores());
+            body.append('}');
+            return 200;
+        } else if (size == 3 && "students".equals(path.get(2))) {
+            if ("GET".equals(method)) {
+                return listStudents(exchange, className, body);
+            }
+            if ("POST".equals(method)) {
+                Map<String, String> request = readObject(exchange);
+                manager.enrollStudent(required(request, "id"), required(request, "name"), className);
+                return ok(body, 201);
+            }
+        } else if (size == 4 && "students".equals(path.get(2)) && "DELETE".equals(method)) {
+            manager.unenrollStudent(path.get(3), className);
+            return ok(body, 200);
+        } else if (size == 3 && "assignments".equals(path.get(2)) && "POST".equals(method)) {
+            Map<String, String> request = readObject(exchange);
+            String due = request.get("due");
+            manager.scheduleAssignment(className, required(request, "name"), required(request, "type"),
+                    due == null || due.isEmpty() ? Assignment.NO_DUE_DATE : parseInstant(due));
+            return ok(body, 201);
+        } else if (size >= 5 && "assignments".equals(path.get(2))) {
+            String assignmentName = path.get(3);
+            String action = path.get(4);
+            if (size == 5 && "submissions".equals(action) && "POST".equals(method)) {
+                manager.submitAssignment(required(readObject(exchange), "studentId"), className, assignmentName);
+                return ok(body, 201);
+            }
+            if (size == 6 && "submissions".equals(action) && "GET".equals(method)) {
+                boolean submitted = manager.hasSubmitted(path.get(5), className, assignmentName);
+                body.append("{\"submitted\":").append(submitted).append('}');
+                return 200;
+            }
+            if (size == 5 && "stats".equals(action) && "GET".equals(method)) {
+                AssignmentStats stats = manager.getAssignmentStats(className, assignmentName);
+                body.append("{\"submitted\":").append(stats.getSubmittedCount())
+                        .append(",\"pending\":").append(manager.getClassroomStats(className).getPendingCount(stats))
+                        .append(",\"scores\":");
+                appendScores(body, stats.getScores());
+                body.append('}');
+                return 200;
+            }
+            if (size == 5 && "missing".equals(action) && "GET".equals(method)) {
+                body.append("{\"students\":");
+                appendStudents(body, manager.getMissingSubmissions(className, assignmentName));
+                body.append('}');
+                return 200;
+            }
+        }
+        return error(body, 404, "No such resource.");
+    }
+
+    private int listClassrooms(StringBuilder body) {
+        body.append("{\"classrooms\":[");
+        Iterator<ClassroomSummary> classrooms = manager.classroomSummaries().iterator();
+        while (classrooms.hasNext()) {
+            ClassroomSummary classroom = classrooms.next();
+            body.append("{\"name\":");
+            Json.appendString(body, classroom.getName())
+                    .append(",\"students\":").append(classroom.getEnrolledCount())
+                    .append(",\"assignments\":").append(classroom.getAssignmentCount()).append('}');
+            if (classrooms.hasNext()) {
+                body.append(',');
+            }
+        }
+        body.append("]}");
+        return 200;
+    }
+
+    private int studentView(String studentId, String view, StringBuilder body) {
+        if ("classrooms".equals(view)) {
+            body.append("{\"classrooms\":[");
+            List<String> names = manager.getClassroomsOfStudent(studentId);
+            for (int i = 0; i < names.size(); i++) {
+                if (i > 0) {
+                    body.append(',');
+                }
+                Json.appendString(body, names.get(i));
+            }
+            body.append("]}");
+            return 200;
+        }
+        if ("pending".equals(view)) {
+            body.append("{\"assignments\":[");
+            List<Assignment> pending = manager.getPendingAssignments(studentId);
+            for (int i = 0; i < pending.size(); i++) {
+                if (i > 0) {
+                    body.append(',');
+                }
+                Assignment assignment = pending.get(i);
+                body.append("{\"classroom\":");
+                Json.appendString(body, assignment.getClassName()).append(",\"name\":");
+                Json.appendString(body, assignment.getName()).append(",\"type\":");
+                Json.appendString(body, assignment.getType());
+                if (assignment.hasDueDate()) {
+                    body.append(",\"due\":");
+                    Json.appendString(body, Instant.ofEpochMilli(assignment.getDueAtMillis()).toString());
+                }
+                body.append('}');
+            }
+            body.append("]}");
+            return 200;
+        }
+        return error(body, 404, "No such resource.");
+    }
+
+    private int listClassroomsBehind(double minRate, StringBuilder body) {
+        body.append("{\"classrooms\":[");
+        List<String> names = manager.classroomsBehind(minRate);
+        for (int i = 0; i < names.size(); i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            Json.appendString(body, names.get(i));
+        }
+        body.append("]}");
+        return 200;
+    }
+
+    private static void appendScores(StringBuilder body, ScoreStats scores) {
+        body.append("{\"count\":").append(scores.getCount()).append(",\"mean\":");
+        Json.appendNumber(body, scores.getMean()).append(",\"min\":");
+        Json.appendNumber(body, scores.getMin()).append(",\"max\":");
+        Json.appendNumber(body, scores.getMax()).append(",\"histogram\":[");
+        long[] histogram = scores.getHistogram();
+        for (int i = 0; i < histogram.length; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append(histogram[i]);
+        }
+        body.append("]}");
+    }
+
+    private int listStudents(HttpExchange exchange, String className, StringBuilder body) {
+        Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+        int cursor = Integer.parseInt(query.getOrDefault("cursor", "0"));
+        int limit = Math.min(MAX_PAGE_SIZE, Integer.parseInt(query.getOrDefault("limit", String.valueOf(DEFAULT_PAGE_SIZE))));
+        Page<Student> page = manager.getStudentsInClass(className, cursor, limit);
+        body.append("{\"students\":");
+        appendStudents(body, page.getItems());
+        body.append(",\"nextCursor\":").append(page.hasMore() ? String.valueOf(page.getNextCursor()) : "null").append('}');
+        return 200;
+    }
+
+    private static void appendStudents(StringBuilder body, List<Student> students) {
+        body.append('[');
+        for (int i = 0; i < students.size(); i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            Student student = students.get(i);
+            body.append("{\"id\":");
+            Json.appendString(body, student.getId()).append(",\"name\":");
+            Json.appendString(body, student.getName()).append('}');
+        }
+        body.append(']');
+    }
+
+    // --- Request and response helpers ---
+
+    private static List<String> segments(String path) {
+        List<String> result = new ArrayList<>(6);
+        int start = 0;
+        while (start < path.length()) {
+            int slash = path.indexOf('/', start);
+            int end = slash < 0 ? path.length() : slash;
+            if (end > start) {
+                result.add(path.substring(start, end));
+            }
+            start = end + 1;
+        }
+        return result;
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> result = new HashMap<>();
+        if (rawQuery == null) {
+            return result;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                result.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reads the request body; send() closes it.
+     */
+    private static Map<String, String> readObject(HttpExchange exchange) throws IOException {
+        byte[] bytes = exchange.getRequestBody().readNBytes(MAX_BODY_BYTES + 1);
+        if (bytes.length > MAX_BODY_BYTES) {
+            throw new IllegalArgumentException("Request body is too large.");
+        }
+        return Json.parseObject(new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    private static long parseInstant(String text) {
+        try {
+            return Instant.parse(text).toEpochMilli();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid due date '" + text + "'. Use e.g. 2025-06-01T17:00:00Z.");
+        }
+    }
+
+    private static String required(Map<String, String> request, String field) {
+        String value = request.get(field);
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException("Field '" + field + "' is required.");
+        }
+        return value.trim();
+    }
+
+    private static int ok(StringBuilder body, int status) {
+        body.append("{\"status\":\"ok\"}");
+        return status;
+    }
+
+    private static int error(StringBuilder body, int status, String message) {
+        body.setLength(0);
+        body.append("{\"error\":");
+        Json.appendString(body, message == null ? "" : message).append('}');
+        return status;
+    }
+
+    private static void send(HttpExchange exchange, int status, StringBuilder body) throws IOException {
+        // drain any unread request body so the connection can be reused
+        try (InputStream in = exchange.getRequestBody()) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Runs the server on the given port (default 8080) against the shared manager.
+     * Usage: java -cp bin com.ei.classroom.server.ClassroomHttpServer [--port=8080]
+     */
+    public static void main(String[] args) throws IOException {
+        int port = 8080;
+        for (String arg : args) {
+            if (arg.startsWith("--port=")) {
+                port = Integer.parseInt(arg.substring("--port=".length()));
+            } else {
+                AppLogger.logError(CLASS_NAME, "Ignoring argument: " + arg);
+            }
+        }
+        ClassroomManager manager = ClassroomManager.getInstance();
+        manager.setConsoleEcho(false);
+        try {
+            Storage.open(manager);
+        } catch (IOException | RuntimeException e) {
+            AppLogger.logError(CLASS_NAME, "Could not load the saved state (" + Storage.describe() + ").", e);
+            manager.shutdown();
+            AppLogger.shutdown();
+            System.exit(2);
+        }
+        ClassroomHttpServer server = new ClassroomHttpServer(manager, new InetSocketAddress(port));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop(1);
+            Storage.checkpoint(manager);
+            manager.shutdown();
+            AppLogger.shutdown();
+        }, "http-server-shutdown"));
+        server.start();
+    }
+}
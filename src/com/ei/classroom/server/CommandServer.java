@@ -0,0 +1,379 @@
+package com.ei.classroom.server;
+
+import com.ei.classroom.command.CommandProcessor;
+import com.ei.classroom.manager.ClassroomManager;
+import com.ei.classroom.manager.Storage;
+import com.ei.classroom.util.AppLogger;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Non-blocking server for the line protocol of CommandProcessor, for scripted bulk clients.
+ *
+ * One selector thread does the socket I/O for every connection, through per-connection
+ * direct buffers. Clients may pipeline: the complete lines of each read are handed as one
+ * batch to a small pool of worker threads, which run them in order, and all of their
+ * responses go out together in as few writes as the socket allows.
+ *
+ * Commands never run on the selector thread, so a mutation waiting for its fsync holds up
+ * only its own connection, and the journal commits the mutations of concurrent connections
+ * together. A connection has at most one batch in flight and is not read from until its
+ * responses are written, and when a client stops reading its responses the server stops
+ * reading its commands until the output has drained, so responses stay in order and a fast
+ * writer cannot make the server buffer without bound.
+ */
+public class CommandServer {
+    private static final String CLASS_NAME = "CommandServer";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int WORKER_THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final int STOP_TIMEOUT_SECONDS = 5;
+
+    private final CommandProcessor processor;
+    private final ExecutorService workers;
+    private final Queue<Connection> finished; // connections whose batch is done, for the selector thread
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final Thread thread;
+    private volatile boolean running;
+
+    public CommandServer(ClassroomManager manager, InetSocketAddress address) throws IOException {
+        this.processor = new CommandProcessor(manager);
+        AtomicInteger count = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(WORKER_THREADS, task -> {
+            Thread worker = new Thread(task, "command-worker-" + count.incrementAndGet());
+            worker.setDaemon(true);
+            return worker;
+        });
+        this.finished = new ConcurrentLinkedQueue<>();
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(address);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        this.thread = new Thread(this::run, "command-server");
+    }
+
+    public void start() {
+        running = true;
+        thread.start();
+        AppLogger.logInfo(CLASS_NAME, "Listening on port {}", getPort());
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Stops the selector thread and closes every connection, then waits for the batches
+     * already handed to the workers, so their mutations are applied when this returns.
+     */
+    public void stop() {
+        running = false;
+        selector.wakeup();
+        try {
+            thread.join();
+            workers.shutdown();
+            if (!workers.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                AppLogger.logError(CLASS_NAME, "Command workers did not finish in time.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+                    Connection connection = (Connection) key.attachment();
+                    try {
+                        if (key.isWritable()) {
+                            connection.onWritable();
+                        } else if (key.isReadable()) {
+                            connection.onReadable();
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        drop(connection, e);
+                    }
+                }
+                Connection connection;
+                while ((connection = finished.poll()) != null) {
+                    if (!connection.key.isValid()) {
+                        continue;
+                    }
+                    try {
+                        connection.onBatchDone();
+                    } catch (IOException | RuntimeException e) {
+                        drop(connection, e);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            AppLogger.logError(CLASS_NAME, "Selector failed; server stopped.", e);
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                closeQuietly(key);
+            }
+            try {
+                selector.close();
+            } catch (IOException e) {
+                AppLogger.logError(CLASS_NAME, "Failed to close the selector.", e);
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+        key.attach(new Connection(channel, key));
+    }
+
+    private static void drop(Connection connection, Exception e) {
+        if (e instanceof IOException) {
+            AppLogger.logDebug(CLASS_NAME, "Connection dropped: {}", e.getMessage());
+        } else {
+            AppLogger.logError(CLASS_NAME, "Closing connection after an unexpected failure.", e);
+        }
+        connection.close();
+    }
+
+    private static void closeQuietly(SelectionKey key) {
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException e) {
+            AppLogger.logDebug(CLASS_NAME, "Close failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Per-client state, touched by the selector thread except while a batch is in flight:
+     * then the worker running it owns batch and responses.
+     */
+    private final class Connection {
+        private final SocketChannel channel;
+        private final SelectionKey key;
+        private final ByteBuffer input;   // kept in fill mode between events
+        private final ByteBuffer output;  // kept in fill mode between events
+        private final List<String> batch;
+        private final StringBuilder responses;
+        private byte[] pending;           // encoded responses that did not fit into output yet
+        private int pendingOffset;
+        private byte[] lineBytes;
+        private boolean busy;             // a worker is running the batch
+        private boolean lineTooLong;      // answer and close once the batch is done
+        private boolean closing;
+
+        private Connection(SocketChannel channel, SelectionKey key) {
+            this.channel = channel;
+            this.key = key;
+            this.input = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            this.output = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            this.batch = new ArrayList<>();
+            this.responses = new StringBuilder(4096);
+            this.lineBytes = new byte[256];
+        }
+
+        private void onReadable() throws IOException {
+            if (channel.read(input) < 0) {
+                closing = true; // answer what was already received, then close
+            }
+            collectCompleteLines();
+            if (!batch.isEmpty()) {
+                submitBatch();
+            } else if (flush() && closing) {
+                close();
+            }
+        }
+
+        /** Called on the selector thread once the worker has run the batch. */
+        private void onBatchDone() throws IOException {
+            busy = false;
+            batch.clear();
+            if (lineTooLong) {
+                responses.append("ERR Line too long.\n");
+                closing = true;
+            }
+            if (flush() && closing) {
+                close();
+            }
+        }
+
+        private void onWritable() throws IOException {
+            if (flush() && closing) {
+                close();
+            }
+        }
+
+        private void collectCompleteLines() {
+            input.flip();
+            int lineStart = input.position();
+            int limit = input.limit();
+            for (int i = lineStart; i < limit; i++) {
+                if (input.get(i) == '\n') {
+                    batch.add(decodeLine(lineStart, i));
+                    lineStart = i + 1;
+                }
+            }
+            input.position(lineStart);
+            input.compact();
+            if (!input.hasRemaining()) {
+                input.clear();
+                if (batch.isEmpty()) {
+                    responses.append("ERR Line too long.\n");
+                    closing = true;
+                } else {
+                    lineTooLong = true; // after the responses of the lines before it
+                }
+            }
+        }
+
+        private String decodeLine(int start, int end) {
+            int length = end - start;
+            if (length > 0 && input.get(end - 1) == '\r') {
+                length--;
+            }
+            if (lineBytes.length < length) {
+                lineBytes = new byte[Integer.highestOneBit(length) << 1];
+            }
+            input.get(start, lineBytes, 0, length);
+            return new String(lineBytes, 0, length, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Hands the batch to a worker and stops reading until its responses are written.
+         */
+        private void submitBatch() {
+            busy = true;
+            key.interestOps(0);
+            try {
+                workers.execute(this::runBatch);
+            } catch (RejectedExecutionException e) { // the server is stopping
+                close();
+            }
+        }
+
+        /** Runs on a worker thread. */
+        private void runBatch() {
+            for (String line : batch) {
+                runLine(line);
+            }
+            finished.add(this);
+            selector.wakeup();
+        }
+
+        private void runLine(String line) {
+            int responseStart = responses.length();
+            try {
+                processor.execute(line, responses);
+            } catch (RuntimeException e) { // a bug in one command must not take the server down
+                AppLogger.logError(CLASS_NAME, "Command failed: " + line, e);
+                responses.setLength(responseStart);
+                responses.append("ERR Internal error: ").append(e.getClass().getSimpleName()).append('\n');
+            }
+        }
+
+        /**
+         * Writes as much of the queued responses as the socket takes.
+         * @return true once everything is written; false if the rest waits for OP_WRITE.
+         */
+        private boolean flush() throws IOException {
+            while (true) {
+                if (pending == null && responses.length() > 0) {
+                    pending = responses.toString().getBytes(StandardCharsets.UTF_8);
+                    pendingOffset = 0;
+                    responses.setLength(0);
+                }
+                if (pending != null) {
+                    int count = Math.min(output.remaining(), pending.length - pendingOffset);
+                    output.put(pending, pendingOffset, count);
+                    pendingOffset += count;
+                    if (pendingOffset == pending.length) {
+                        pending = null;
+                    }
+                }
+                output.flip();
+                channel.write(output);
+                boolean drained = !output.hasRemaining();
+                output.compact();
+                if (!drained) {
+                    key.interestOps(SelectionKey.OP_WRITE); // stop reading until the client catches up
+                    return false;
+                }
+                if (pending == null && responses.length() == 0) {
+                    key.interestOps(busy ? 0 : SelectionKey.OP_READ);
+                    return true;
+                }
+            }
+        }
+
+        private void close() {
+            closeQuietly(key);
+        }
+    }
+
+    /**
+     * Runs the server on the given port (default 7070) against the shared manager.
+     * Usage: java -cp bin com.ei.classroom.server.CommandServer [--port=7070]
+     */
+    public static void main(String[] args) throws IOException {
+        int port = 7070;
+        for (String arg : args) {
+            if (arg.startsWith("--port=")) {
+                port = Integer.parseInt(arg.substring("--port=".length()));
+            } else {
+                AppLogger.logError(CLASS_NAME, "Ignoring argument: " + arg);
+            }
+        }
+        ClassroomManager manager = ClassroomManager.getInstance();
+        manager.setConsoleEcho(false);
+        try {
+            Storage.open(manager);
+        } catch (IOException | RuntimeException e) {
+            AppLogger.logError(CLASS_NAME, "Could not load the saved state (" + Storage.describe() + ").", e);
+            manager.shutdown();
+            AppLogger.shutdown();
+            System.exit(2);
+        }
+        CommandServer server = new CommandServer(manager, new InetSocketAddress(port));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop();
+            Storage.checkpoint(manager);
+            manager.shutdown();
+            AppLogger.shutdown();
+        }, "command-server-shutdown"));
+        server.start();
+    }
+}
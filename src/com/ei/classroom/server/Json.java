@@ -0,0 +1,184 @@
+package com.ei.classroom.server;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Minimal JSON support for the HTTP API: request bodies are flat objects whose values are
+ * strings, numbers or booleans, and responses are built by appending to a StringBuilder.
+ */
+final class Json {
+
+    private Json() {
+    }
+
+    /**
+     * Parses a flat JSON object. Numbers and booleans are returned as their literal text.
+     * @throws IllegalArgumentException if the text is not such an object.
+     */
+    static Map<String, String> parseObject(String text) {
+        Parser parser = new Parser(text);
+        Map<String, String> result = parser.object();
+        parser.skipWhitespace();
+        if (parser.position != text.length()) {
+            throw new IllegalArgumentException("Unexpected content after JSON object.");
+        }
+        return result;
+    }
+
+    /**
+     * Appends the value as a quoted, escaped JSON string.
+     */
+    static StringBuilder appendString(StringBuilder target, String value) {
+        target.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': target.append("\\\""); break;
+                case '\\': target.append("\\\\"); break;
+                case '\n': target.append("\\n"); break;
+                case '\r': target.append("\\r"); break;
+                case '\t': target.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        target.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        target.append(c);
+                    }
+            }
+        }
+        return target.append('"');
+    }
+
+    /**
+     * Appends the number, or null for NaN and infinities, which JSON cannot represent.
+     */
+    static StringBuilder appendNumber(StringBuilder out, double value) {
+        return Double.isFinite(value) ? out.append(value) : out.append("null");
+    }
+
+    private static final class Parser {
+        private final String text;
+        private int position;
+
+        private Parser(String text) {
+            this.text = text;
+        }
+
+        private Map<String, String> object() {
+            Map<String, String> result = new HashMap<>();
+            expect('{');
+            skipWhitespace();
+            if (peek() == '}') {
+                position++;
+                return result;
+            }
+            while (true) {
+                skipWhitespace();
+                String key = string();
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+                result.put(key, value());
+                skipWhitespace();
+                char c = next();
+                if (c == '}') {
+                    return result;
+                }
+                if (c != ',') {
+                    throw error("Expected ',' or '}'");
+                }
+            }
+        }
+
+        private String value() {
+            char c = peek();
+            if (c == '"') {
+                return string();
+            }
+            int start = position;
+            while (position < text.length() && "-+.eE0123456789truefalsn".indexOf(text.charAt(position)) >= 0) {
+                position++;
+            }
+            if (start == position) {
+                throw error("Expected a string, number or boolean");
+            }
+            String literal = text.substring(start, position);
+            return "null".equals(literal) ? null : literal;
+        }
+
+        private String string() {
+            expect('"');
+            StringBuilder value = null;
+            int start = position;
+            while (true) {
+                char c = next();
+                if (c == '"') {
+                    return value == null ? text.substring(start, position - 1) : value.toString();
+                }
+                if (c == '\\') {
+                    if (value == null) {
+                        value = new StringBuilder().append(text, start, position - 1);
+                    }
+                    value.append(unescape());
+                } else if (value != null) {
+                    value.append(c);
+                }
+            }
+        }
+
+        private char unescape() {
+            char c = next();
+            switch (c) {
+                case '"': case '\\': case '/': return c;
+                case 'n': return '\n';
+                case 'r': return '\r';
+                case 't': return '\t';
+                case 'b': return '\b';
+                case 'f': return '\f';
+                case 'u':
+                    if (position + 4 > text.length()) {
+                        throw error("Truncated unicode escape");
+                    }
+                    try {
+                        char decoded = (char) Integer.parseInt(text.substring(position, position + 4), 16);
+                        position += 4;
+                        return decoded;
+                    } catch (NumberFormatException e) {
+                        throw error("Invalid unicode escape");
+                    }
+                default:
+                    throw error("Invalid escape");
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+
+        private char peek() {
+            if (position >= text.length()) {
+                throw error("Unexpected end of JSON");
+            }
+            return text.charAt(position);
+        }
+
+        private char next() {
+            char c = peek();
+            position++;
+            return c;
+        }
+
+        private void expect(char expected) {
+            if (next() != expected) {
+                throw error("Expected '" + expected + "'");
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at position " + position + ".");
+        }
+    }
+}
@@ -1,24 +1,210 @@
 package com.ei.classroom.util;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Supplier;
+
+/**
+ * Application logger with runtime level gating.
+ * Messages below the active level cost one volatile read and a compare (target under 5 ns per
+ * call): use the "{}" placeholder or Supplier overloads so nothing is concatenated for disabled
+ * levels. By default lines go synchronously to stdout/stderr. With async output enabled, callers
+ * only copy their arguments into a ring buffer without allocating (target under 1 microsecond per
+ * call) and a writer thread formats and writes whole batches, so placeholder arguments must be
+ * immutable.
+ *
+ * Configured at startup through system properties:
+ * classroom.log.level (DEBUG, INFO, ERROR, OFF), classroom.log.async (true/false) and
+ * classroom.log.file (path; implies async).
+ */
 public class AppLogger {
     private static final String INFO_PREFIX = "[INFO] ";
     private static final String ERROR_PREFIX = "[ERROR] ";
     private static final String DEBUG_PREFIX = "[DEBUG] ";
+    private static final int DEFAULT_RING_CAPACITY = 8192;
+
+    public enum Level {
+        DEBUG, INFO, ERROR, OFF
+    }
+
+    private static volatile Level level = parseLevel(System.getProperty("classroom.log.level"));
+    private static volatile AsyncLogWriter asyncWriter;
+
+    static {
+        String file = System.getProperty("classroom.log.file");
+        if (file != null) {
+            startAsync(Paths.get(file));
+        } else if (Boolean.getBoolean("classroom.log.async")) {
+            startAsync(null);
+        }
+    }
+
+    // --- Configuration ---
+
+    /**
+     * Reads the level from its property value. This runs while the class is initialized, so a
+     * typo must not throw (every class that logs would fail to load): it falls back to INFO
+     * with a warning on stderr.
+     */
+    private static Level parseLevel(String value) {
+        if (value == null) {
+            return Level.INFO;
+        }
+        for (Level candidate : Level.values()) {
+            if (candidate.name().equalsIgnoreCase(value.trim())) {
+                return candidate;
+            }
+        }
+        System.err.println(ERROR_PREFIX + "AppLogger: Unknown classroom.log.level '" + value + "', using INFO.");
+        return Level.INFO;
+    }
+
+    public static void setLevel(Level newLevel) {
+        level = newLevel;
+    }
+
+    public static Level getLevel() {
+        return level;
+    }
+
+    public static boolean isDebugEnabled() {
+        return level.compareTo(Level.DEBUG) <= 0;
+    }
+
+    public static boolean isInfoEnabled() {
+        return level.compareTo(Level.INFO) <= 0;
+    }
+
+    /**
+     * Switches to asynchronous output.
+     * @param file log file to append to, or null for stdout/stderr.
+     */
+    public static synchronized void startAsync(Path file) {
+        if (asyncWriter != null) {
+            return;
+        }
+        Writer fileWriter = null;
+        if (file != null) {
+            try {
+                fileWriter = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                System.err.println(ERROR_PREFIX + "AppLogger: Cannot open log file " + file + " -> " + e.getMessage());
+                return;
+            }
+        }
+        AsyncLogWriter writer = new AsyncLogWriter(DEFAULT_RING_CAPACITY, fileWriter);
+        asyncWriter = writer;
+        Runtime.getRuntime().addShutdownHook(new Thread(writer::close, "app-logger-flush"));
+    }
+
+    /**
+     * Flushes pending lines and returns to synchronous console output.
+     */
+    public static synchronized void shutdown() {
+        AsyncLogWriter writer = asyncWriter;
+        if (writer != null) {
+            asyncWriter = null;
+            writer.close();
+        }
+    }
+
+    // --- Logging ---
 
     public static void logInfo(String className, String message) {
-        System.out.println(INFO_PREFIX + className + ": " + message);
+        if (isInfoEnabled()) {
+            log(Level.INFO, className, message, 0, null, null, null);
+        }
+    }
+
+    public static void logInfo(String className, String pattern, Object arg) {
+        if (isInfoEnabled()) {
+            log(Level.INFO, className, pattern, 1, arg, null, null);
+        }
+    }
+
+    public static void logInfo(String className, String pattern, Object arg1, Object arg2) {
+        if (isInfoEnabled()) {
+            log(Level.INFO, className, pattern, 2, arg1, arg2, null);
+        }
     }
 
     public static void logError(String className, String message) {
-        System.err.println(ERROR_PREFIX + className + ": " + message);
+        if (level.compareTo(Level.ERROR) <= 0) {
+            log(Level.ERROR, className, message, 0, null, null, null);
+        }
     }
 
     public static void logError(String className, String message, Exception e) {
-        System.err.println(ERROR_PREFIX + className + ": " + message + " -> " + e.getMessage());
+        if (level.compareTo(Level.ERROR) <= 0) {
+            log(Level.ERROR, className, message, 0, null, null, String.valueOf(e.getMessage()));
+        }
     }
 
     public static void logDebug(String className, String message) {
-        // Debug logging is intentionally commented out for a cleaner console in the demo.
-        // System.out.println(DEBUG_PREFIX + className + ": " + message);
+        if (isDebugEnabled()) {
+            log(Level.DEBUG, className, message, 0, null, null, null);
+        }
+    }
+
+    public static void logDebug(String className, String pattern, Object arg) {
+        if (isDebugEnabled()) {
+            log(Level.DEBUG, className, pattern, 1, arg, null, null);
+        }
+    }
+
+    public static void logDebug(String className, String pattern, Object arg1, Object arg2) {
+        if (isDebugEnabled()) {
+            log(Level.DEBUG, className, pattern, 2, arg1, arg2, null);
+        }
+    }
+
+    public static void logDebug(String className, Supplier<String> messageSupplier) {
+        if (isDebugEnabled()) {
+            log(Level.DEBUG, className, messageSupplier.get(), 0, null, null, null);
+        }
+    }
+
+    private static void log(Level lineLevel, String className, String pattern,
+                            int argCount, Object arg1, Object arg2, String errorDetail) {
+        AsyncLogWriter writer = asyncWriter;
+        if (writer != null) {
+            writer.publish(lineLevel, className, pattern, argCount, arg1, arg2, errorDetail);
+            return;
+        }
+        StringBuilder line = new StringBuilder(64 + pattern.length());
+        formatLine(line, lineLevel, className, pattern, argCount, arg1, arg2, errorDetail);
+        if (lineLevel == Level.ERROR) {
+            System.err.println(line);
+        } else {
+            System.out.println(line);
+        }
+    }
+
+    /**
+     * Renders one log line, substituting up to two "{}" placeholders.
+     */
+    static void formatLine(StringBuilder target, Level lineLevel, String className, String pattern,
+                           int argCount, Object arg1, Object arg2, String errorDetail) {
+        target.append(lineLevel == Level.ERROR ? ERROR_PREFIX : lineLevel == Level.DEBUG ? DEBUG_PREFIX : INFO_PREFIX)
+                .append(className).append(": ");
+        int start = 0;
+        for (int i = 0; i < argCount; i++) {
+            int placeholder = pattern.indexOf("{}", start);
+            if (placeholder < 0) {
+                break;
+            }
+            target.append(pattern, start, placeholder).append(i == 0 ? arg1 : arg2);
+            start = placeholder + 2;
+        }
+        target.append(pattern, start, pattern.length());
+        if (errorDetail != null) {
+            target.append(" -> ").append(errorDetail);
+        }
     }
 }
@@ -0,0 +1,182 @@
+package com.ei.classroom.util;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Background writer behind AppLogger.
+ * Callers copy the raw log arguments into a preallocated slot of a ring buffer, so logging
+ * allocates nothing on the calling thread. A single writer thread formats whole batches
+ * into one buffer and writes each batch with a single call, either to a file or to
+ * stdout/stderr. When the ring is full, callers wait for the writer rather than lose lines.
+ */
+final class AsyncLogWriter {
+
+    /** One reusable ring slot. */
+    private static final class Entry {
+        private AppLogger.Level level;
+        private String className;
+        private String pattern;
+        private Object arg1;
+        private Object arg2;
+        private int argCount;
+        private String errorDetail;
+
+        private void clear() {
+            className = null;
+            pattern = null;
+            arg1 = null;
+            arg2 = null;
+            errorDetail = null;
+        }
+    }
+
+    private final Entry[] ring;
+    private final int mask;
+    private final Writer fileWriter; // null means console
+    private final ReentrantLock lock;
+    private final Condition notEmpty;
+    private final Condition notFull;
+    private final Thread thread;
+    private long head; // next slot to write out, guarded by lock
+    private long tail; // next slot to fill, guarded by lock
+    private boolean running;
+
+    /**
+     * @param capacity ring size; rounded up to a power of two.
+     * @param fileWriter destination, or null to write to stdout/stderr.
+     */
+    AsyncLogWriter(int capacity, Writer fileWriter) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.ring = new Entry[size];
+        for (int i = 0; i < size; i++) {
+            ring[i] = new Entry();
+        }
+        this.mask = size - 1;
+        this.fileWriter = fileWriter;
+        this.lock = new ReentrantLock();
+        this.notEmpty = lock.newCondition();
+        this.notFull = lock.newCondition();
+        this.running = true;
+        this.thread = new Thread(this::run, "app-logger");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    void publish(AppLogger.Level level, String className, String pattern,
+                 int argCount, Object arg1, Object arg2, String errorDetail) {
+        lock.lock();
+        try {
+            while (tail - head == ring.length && running) {
+                notFull.awaitUninterruptibly();
+            }
+            if (!running) {
+                return;
+            }
+            Entry entry = ring[(int) (tail & mask)];
+            entry.level = level;
+            entry.className = className;
+            entry.pattern = pattern;
+            entry.argCount = argCount;
+            entry.arg1 = arg1;
+            entry.arg2 = arg2;
+            entry.errorDetail = errorDetail;
+            if (tail++ == head) {
+                notEmpty.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void run() {
+        StringBuilder out = new StringBuilder(8192);
+        StringBuilder err = new StringBuilder(1024);
+        while (true) {
+            long from;
+            long to;
+            lock.lock();
+            try {
+                while (head == tail && running) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (head == tail) {
+                    return; // stopped and drained
+                }
+                from = head;
+                to = tail;
+            } finally {
+                lock.unlock();
+            }
+
+            // Slots in [from, to) are not reused until head moves past them.
+            for (long seq = from; seq < to; seq++) {
+                Entry entry = ring[(int) (seq & mask)];
+                StringBuilder target = fileWriter == null && entry.level == AppLogger.Level.ERROR ? err : out;
+                AppLogger.formatLine(target, entry.level, entry.className, entry.pattern,
+                        entry.argCount, entry.arg1, entry.arg2, entry.errorDetail);
+                target.append(System.lineSeparator());
+                entry.clear();
+            }
+            write(out, err);
+
+            lock.lock();
+            try {
+                head = to;
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void write(StringBuilder out, StringBuilder err) {
+        try {
+            if (fileWriter != null) {
+                fileWriter.append(out);
+                fileWriter.flush();
+            } else {
+                writeTo(System.out, out);
+                writeTo(System.err, err);
+            }
+        } catch (IOException e) {
+            System.err.println("[ERROR] AppLogger: Failed to write log batch -> " + e.getMessage());
+        }
+        out.setLength(0);
+        err.setLength(0);
+    }
+
+    private static void writeTo(PrintStream stream, StringBuilder batch) {
+        if (batch.length() > 0) {
+            stream.append(batch);
+            stream.flush();
+        }
+    }
+
+    /**
+     * Writes out everything already published and stops the writer thread.
+     */
+    void close() {
+        lock.lock();
+        try {
+            running = false;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            thread.join();
+            if (fileWriter != null) {
+                fileWriter.close();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            System.err.println("[ERROR] AppLogger: Failed to close log file -> " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.ei.classroom.util;
+
+import java.util.Arrays;
+
+/**
+ * Hash map from non-negative int keys to int values, stored in two flat int arrays.
+ * Nothing is boxed and there is no entry object per mapping, which is what makes it cheaper
+ * than a HashMap&lt;String, Integer&gt; for indexes keyed by dense ordinals.
+ * Open addressing with linear probing, kept at most half full. Mappings cannot be removed;
+ * the indexes that use it only ever grow. Not thread-safe.
+ */
+public class IntIntHashMap {
+    /** Returned by get() for a key that is not mapped. */
+    public static final int MISSING = -1;
+
+    private static final int EMPTY = -1;
+    private static final int MIN_CAPACITY = 8;
+
+    private int[] keys;
+    private int[] values;
+    private int size;
+
+    public IntIntHashMap() {
+        this(MIN_CAPACITY / 2);
+    }
+
+    /**
+     * @param expectedSize number of mappings to hold before the first resize.
+     */
+    public IntIntHashMap(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * @return the value mapped to key, or MISSING.
+     */
+    public int get(int key) {
+        int mask = keys.length - 1;
+        for (int slot = slotOf(key, mask); ; slot = (slot + 1) & mask) {
+            int current = keys[slot];
+            if (current == key) {
+                return values[slot];
+            }
+            if (current == EMPTY) {
+                return MISSING;
+            }
+        }
+    }
+
+    /**
+     * @return the previous value mapped to key, or MISSING.
+     */
+    public int put(int key, int value) {
+        if (key < 0) {
+            throw new IllegalArgumentException("Keys must be non-negative: " + key);
+        }
+        int mask = keys.length - 1;
+        int slot = slotOf(key, mask);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                int previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        return MISSING;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != EMPTY) {
+                int slot = slotOf(key, mask);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    // Ordinals are sequential, so spread them before masking to avoid long probe runs.
+    private static int slotOf(int key, int mask) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
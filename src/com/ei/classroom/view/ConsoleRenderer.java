@@ -0,0 +1,87 @@
+package com.ei.classroom.view;
+
+import com.ei.classroom.manager.ClassroomManager;
+import com.ei.classroom.model.ClassroomSummary;
+import com.ei.classroom.model.ClassroomView;
+import com.ei.classroom.model.Page;
+import com.ei.classroom.model.Student;
+import java.io.PrintStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Renders ClassroomManager query results as console text.
+ * Rows are formatted into one buffer and written a page at a time, so a large listing costs
+ * one write per page instead of one formatted print per row. Not thread-safe: use one
+ * renderer per thread.
+ */
+public class ConsoleRenderer {
+    private static final int PAGE_SIZE = 512;
+
+    private final PrintStream out; // null means whatever System.out is at write time
+    private final StringBuilder buffer;
+
+    public ConsoleRenderer() {
+        this(null);
+    }
+
+    public ConsoleRenderer(PrintStream out) {
+        this.out = out;
+        this.buffer = new StringBuilder(PAGE_SIZE * 48);
+    }
+
+    public void renderClassrooms(ClassroomManager manager) {
+        Iterator<ClassroomSummary> classrooms = manager.classroomSummaries().iterator();
+        if (!classrooms.hasNext()) {
+            buffer.append("No classrooms created yet.\n");
+            flush();
+            return;
+        }
+        buffer.append("\n--- Active Classrooms ---\n");
+        int rows = 0;
+        while (classrooms.hasNext()) {
+            ClassroomSummary classroom = classrooms.next();
+            buffer.append("- ").append(classroom.getName())
+                    .append(" (").append(classroom.getEnrolledCount()).append(" students)\n");
+            if (++rows % PAGE_SIZE == 0) {
+                flush();
+            }
+        }
+        buffer.append("-------------------------\n\n");
+        flush();
+    }
+
+    /**
+     * Lists the roster as it was when the listing started: every page comes from one view of
+     * the classroom, so students who enroll or leave meanwhile cannot be skipped or repeated.
+     */
+    public void renderStudents(ClassroomManager manager, String className) throws NoSuchElementException {
+        ClassroomView view = manager.getClassroomView(className);
+        Page<Student> page = view.getEnrolledPage(0, PAGE_SIZE);
+        if (page.getItems().isEmpty()) {
+            buffer.append("No students enrolled in [").append(className).append("].\n");
+            flush();
+            return;
+        }
+        buffer.append("\n--- Students in [").append(className).append("] ---\n");
+        while (true) {
+            for (Student student : page.getItems()) {
+                buffer.append("ID: ").append(student.getId()).append(" | Name: ").append(student.getName()).append('\n');
+            }
+            if (!page.hasMore()) {
+                break;
+            }
+            flush();
+            page = view.getEnrolledPage(page.getNextCursor(), PAGE_SIZE);
+        }
+        buffer.append("-------------------------------------\n\n");
+        flush();
+    }
+
+    private void flush() {
+        PrintStream target = out == null ? System.out : out;
+        target.append(buffer);
+        target.flush();
+        buffer.setLength(0);
+    }
+}
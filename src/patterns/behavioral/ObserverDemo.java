@@ -2,42 +2,54 @@ package com.ei.classroom.patterns.behavioral;
 
 import com.ei.classroom.model.Assignment;
 import com.ei.classroom.model.Student;
+import com.ei.classroom.observer.SubmissionEvent;
+import com.ei.classroom.observer.SubmissionEventBus;
 import com.ei.classroom.observer.Teacher;
 import com.ei.classroom.util.AppLogger;
 
 /**
  * OBSERVER PATTERN DEMO: Student Progress Alerts.
- * The Teacher (Observer) is notified when a Student (Subject) takes an action (submits an assignment).
+ * The Teacher (Observer) is notified through the SubmissionEventBus (Subject) when a Student
+ * submits an assignment. Teachers can follow every classroom or only the ones they teach.
  */
 public class ObserverDemo {
     public static void runDemo() {
         AppLogger.logInfo("ObserverDemo", "Starting Observer Pattern Demo: Student Progress Alerts");
         
-        // 1. Create a Subject (Student)
+        // 1. Create the Subject (event bus) and a student
+        SubmissionEventBus eventBus = new SubmissionEventBus();
         Student alice = new Student("S101", "Alice Johnson");
         
         // 2. Create Observers (Teachers/Parents)
         Teacher mrSmith = new Teacher("Mr. Smith (Teacher)");
         Teacher msJones = new Teacher("Ms. Jones (Teacher)");
         
-        // 3. Attach Observers to the Subject
-        alice.attach(mrSmith);
-        alice.attach(msJones);
+        // 3. Subscribe Observers: Mr. Smith follows everything, Ms. Jones only English 101
+        eventBus.attach(mrSmith);
+        eventBus.subscribeToClassroom(msJones, "English 101");
         
         // 4. Create an action (State change in Subject)
         Assignment essay = new Assignment("Final Essay", "English 101", "ESSAY");
         
         System.out.println("--- Action: Alice submits the Final Essay ---");
-        // This action triggers the notifyObservers() call inside Student.submitAssignment()
-        alice.submitAssignment(essay);
-        
-        System.out.println("\n--- Action: Detaching one Observer ---");
-        alice.detach(msJones);
+        submit(eventBus, alice, essay); // Both teachers are notified
         
         Assignment quiz = new Assignment("Midterm Quiz", "Math 101", "MCQ");
         System.out.println("--- Action: Alice submits the Midterm Quiz ---");
-        alice.submitAssignment(quiz); // Only Mr. Smith should receive the second notification
+        submit(eventBus, alice, quiz); // Only Mr. Smith follows Math 101
+        
+        System.out.println("\n--- Action: Detaching one Observer ---");
+        eventBus.detach(mrSmith);
+        
+        Assignment reading = new Assignment("Reading Log", "English 101", "ESSAY");
+        System.out.println("--- Action: Alice submits the Reading Log ---");
+        submit(eventBus, alice, reading); // Only Ms. Jones should receive this notification
         
         AppLogger.logInfo("ObserverDemo", "Observer Pattern Demo Finished.\n");
     }
+
+    private static void submit(SubmissionEventBus eventBus, Student student, Assignment assignment) {
+        eventBus.notifyObservers(new SubmissionEvent(student.getId(), assignment.getClassName(),
+                assignment.getName(), assignment.getType(), System.currentTimeMillis()));
+    }
 }
@@ -1,35 +1,10 @@
 package com.ei.classroom.patterns.behavioral;
 
+import com.ei.classroom.grading.EasyDifficulty;
+import com.ei.classroom.grading.HardDifficulty;
+import com.ei.classroom.grading.QuizDifficultyStrategy;
 import com.ei.classroom.util.AppLogger;
 
-// Strategy Interface
-interface QuizDifficultyStrategy {
-    String getDifficultyLevel();
-    double calculateScoreAdjustment(double baseScore);
-}
-
-// Concrete Strategy 1: Easy
-class EasyDifficulty implements QuizDifficultyStrategy {
-    @Override
-    public String getDifficultyLevel() { return "Easy"; }
-    @Override
-    public double calculateScoreAdjustment(double baseScore) {
-        // Boost score slightly for easy quizzes
-        return Math.min(100.0, baseScore * 1.05);
-    }
-}
-
-// Concrete Strategy 2: Hard
-class HardDifficulty implements QuizDifficultyStrategy {
-    @Override
-    public String getDifficultyLevel() { return "Hard"; }
-    @Override
-    public double calculateScoreAdjustment(double baseScore) {
-        // Penalty or bonus for hard quizzes
-        return baseScore * 1.15; // Give 15% bonus for completing a hard quiz
-    }
-}
-
 // Context Class
 class AdaptiveQuiz {
     private QuizDifficultyStrategy strategy;
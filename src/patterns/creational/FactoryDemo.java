@@ -2,6 +2,7 @@ package com.ei.classroom.patterns.creational;
 
 import com.ei.classroom.model.Assignment;
 import com.ei.classroom.factory.AssignmentFactory;
+import com.ei.classroom.factory.AssignmentKind;
 import com.ei.classroom.factory.AssignmentType;
 import com.ei.classroom.util.AppLogger;
 
@@ -29,9 +30,20 @@ public class FactoryDemo {
                 AssignmentType.PRACTICAL, "Build a Robot", "Robotics Club");
             System.out.println("Created: " + practical.getDetails());
             
-            // 4. Demonstrate extensibility (new type can be added easily in the factory)
+            // 4. Demonstrate extensibility: a new kind carries its own metadata. An application
+            //    registers its kinds with AssignmentFactory.register() at startup; the demo only
+            //    builds from this one, so it does not change the kinds the real classrooms offer.
+            AssignmentKind lab = new AssignmentKind("LAB", "Timed Lab", 90, 50);
+            Assignment experiment = AssignmentFactory.createAssignment(lab, "Titration", "Chemistry 10");
+            System.out.println("Created: " + experiment.getDetails() + " Time limit: "
+                    + lab.getTimeLimitMinutes() + " min, max score: " + lab.getMaxScore());
+
+            // 5. Registered kinds are looked up ignoring case; unknown ones are simply not found
+            System.out.println("Kind 'mcq' resolves to: " + AssignmentFactory.findKind("mcq").getTypeName());
+            System.out.println("Kind 'Poster' registered: " + (AssignmentFactory.findKind("Poster") != null)
+                    + " (available: " + AssignmentFactory.describeKinds() + ")");
             
-        } catch (IllegalArgumentException e) {
+        } catch (IllegalArgumentException | IllegalStateException e) {
             // Defensive programming
             AppLogger.logError("FactoryDemo", "Error during factory creation.", e);
         }
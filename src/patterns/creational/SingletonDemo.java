@@ -2,6 +2,7 @@ package com.ei.classroom.patterns.creational;
 
 import com.ei.classroom.manager.ClassroomManager;
 import com.ei.classroom.util.AppLogger;
+import com.ei.classroom.view.ConsoleRenderer;
 
 /**
  * SINGLETON PATTERN DEMO: Classroom Manager.
@@ -35,7 +36,7 @@ public class SingletonDemo {
         // Verify state persistence
         manager1.addClassroom("DemoClassA");
         System.out.print("Checking manager2 state: ");
-        manager2.listClassrooms();
+        new ConsoleRenderer().renderClassrooms(manager2);
         
         AppLogger.logInfo("SingletonDemo", "Singleton Pattern Demo Finished.\n");
     }
@@ -1,8 +1,9 @@
 package com.ei.classroom.patterns.structural;
 
+import com.ei.classroom.importer.RosterLineParser;
+import com.ei.classroom.importer.RosterRecord;
 import com.ei.classroom.model.Student;
 import com.ei.classroom.util.AppLogger;
-import java.util.UUID;
 
 // Target Interface (What the application expects)
 interface StudentImporter {
@@ -23,30 +24,23 @@ class LegacyCSVData {
 }
 
 // Adapter (Converts the Adaptee to the Target Interface)
+// Shares its parsing with the bulk RosterImporter, so both accept exactly the same records.
 class LegacyDataAdapter implements StudentImporter {
     private static final String CLASS_NAME = "LegacyDataAdapter";
 
     @Override
     public Student importStudent(String legacyData) {
-        // The core logic of the Adapter: converting the format
-        try {
-            // Assume CSV format: Name,ID
-            String[] parts = legacyData.split(",");
-            if (parts.length < 2) {
-                throw new IllegalArgumentException("Invalid CSV format. Expected: Name,ID");
-            }
-            String name = parts[0].trim();
-            String id = parts[1].trim();
-            
-            // Return the object the rest of the application uses
-            AppLogger.logDebug(CLASS_NAME, "Successfully converted CSV for " + name);
-            return new Student(id, name);
-            
-        } catch (Exception e) {
-            AppLogger.logError(CLASS_NAME, "Failed to adapt legacy data: " + legacyData, e);
-            // Defensive programming: return a placeholder or throw a custom exception
-            return new Student(UUID.randomUUID().toString(), "ImportError");
+        // The core logic of the Adapter: converting the format (Name,ID)
+        RosterRecord record = RosterLineParser.parse(legacyData, 1, null);
+        if (!record.isValid()) {
+            AppLogger.logError(CLASS_NAME, "Failed to adapt legacy data: " + legacyData + " -> " + record.getError());
+            // Defensive programming: reject the record rather than invent a placeholder student
+            throw new IllegalArgumentException(record.getError());
         }
+
+        // Return the object the rest of the application uses
+        AppLogger.logDebug(CLASS_NAME, "Successfully converted CSV for {}", record.getStudentName());
+        return new Student(record.getStudentId(), record.getStudentName());
     }
 }
 
@@ -73,6 +67,13 @@ public class AdapterDemo {
         System.out.println("Imported Student 1 (Adapted): ID=" + student1.getId() + ", Name=" + student1.getName());
         System.out.println("Imported Student 2 (Adapted): ID=" + student2.getId() + ", Name=" + student2.getName());
 
+        // 4. Malformed records are rejected instead of becoming placeholder students
+        try {
+            adapter.importStudent("Corrupted Record Without Id");
+        } catch (IllegalArgumentException e) {
+            System.out.println("Rejected malformed record: " + e.getMessage());
+        }
+
         AppLogger.logInfo("AdapterDemo", "Adapter Pattern Demo Finished.\n");
     }
 }
@@ -1,91 +1,15 @@
 package com.ei.classroom.patterns.structural;
 
+import com.ei.classroom.decorator.AssignmentComponent;
+import com.ei.classroom.decorator.BasicAssignmentComponent;
+import com.ei.classroom.decorator.CachedDetailsDecorator;
+import com.ei.classroom.decorator.DifficultyTagDecorator;
+import com.ei.classroom.decorator.TimeTrackingDecorator;
+import com.ei.classroom.factory.AssignmentKind;
+import com.ei.classroom.manager.ClassroomManager;
 import com.ei.classroom.model.Assignment;
 import com.ei.classroom.util.AppLogger;
 
-// Base Assignment Interface (Component)
-interface AssignmentComponent {
-    String getName();
-    String getDetails();
-}
-
-// Concrete Component: Wraps the existing Assignment model
-class BasicAssignmentComponent implements AssignmentComponent {
-    private final Assignment assignment;
-    
-    public BasicAssignmentComponent(Assignment assignment) {
-        this.assignment = assignment;
-    }
-    
-    @Override
-    public String getName() {
-        return assignment.getName();
-    }
-
-    @Override
-    public String getDetails() {
-        return assignment.getDetails();
-    }
-}
-
-// Abstract Decorator
-abstract class AssignmentDecorator implements AssignmentComponent {
-    protected AssignmentComponent decoratedAssignment;
-    
-    public AssignmentDecorator(AssignmentComponent decoratedAssignment) {
-        this.decoratedAssignment = decoratedAssignment;
-    }
-
-    // Delegation to the wrapped component
-    @Override
-    public String getName() {
-        return decoratedAssignment.getName();
-    }
-    
-    // Default implementation just calls the decorated component's method
-    @Override
-    public String getDetails() {
-        return decoratedAssignment.getDetails();
-    }
-}
-
-// Concrete Decorator 1: Add Time Tracking
-class TimeTrackingDecorator extends AssignmentDecorator {
-    public TimeTrackingDecorator(AssignmentComponent decoratedAssignment) {
-        super(decoratedAssignment);
-    }
-    
-    private String addTimeTracking() {
-        // Simulate a tracked time
-        return " | Time Limit: 60 mins";
-    }
-
-    @Override
-    public String getDetails() {
-        return decoratedAssignment.getDetails() + addTimeTracking();
-    }
-}
-
-// Concrete Decorator 2: Add Difficulty Tag
-class DifficultyTagDecorator extends AssignmentDecorator {
-    private final String difficulty;
-    
-    public DifficultyTagDecorator(AssignmentComponent decoratedAssignment, String difficulty) {
-        super(decoratedAssignment);
-        this.difficulty = difficulty;
-    }
-    
-    private String addDifficultyTag() {
-        return " | Difficulty: " + difficulty;
-    }
-
-    @Override
-    public String getDetails() {
-        return decoratedAssignment.getDetails() + addDifficultyTag();
-    }
-}
-
-
 /**
  * DECORATOR PATTERN DEMO: Assignment Analytics.
  * Wraps a basic Assignment with optional features like Time Tracking and Difficulty Tagging 
@@ -95,16 +19,24 @@ public class DecoratorDemo {
     public static void runDemo() {
         AppLogger.logInfo("DecoratorDemo", "Starting Decorator Pattern Demo: Assignment Analytics");
 
-        // 1. Create a basic assignment object
-        Assignment baseAssignment = new Assignment("Geography Quiz", "Geo 8", "MCQ");
+        // 1. Schedule a basic assignment in a class of two
+        ClassroomManager manager = ClassroomManager.createStandalone();
+        manager.setConsoleEcho(false);
+        manager.addClassroom("Geo 8");
+        manager.enrollStudent("G1", "Maya", "Geo 8");
+        manager.enrollStudent("G2", "Leo", "Geo 8");
+        manager.scheduleAssignment("Geo 8", "Geography Quiz", "MCQ");
+        Assignment baseAssignment = manager.getClassroomView("Geo 8").getAssignments().get(0);
         
         // 2. Wrap it in the Component interface
         AssignmentComponent quiz = new BasicAssignmentComponent(baseAssignment);
         
         System.out.println("1. Basic Assignment: " + quiz.getDetails());
         
-        // 3. Decorate it with Time Tracking
-        AssignmentComponent timedQuiz = new TimeTrackingDecorator(quiz);
+        // 3. Decorate it with Time Tracking. MCQ is untimed, so the demo supplies a timed kind of
+        //    its own rather than registering one in the factory the real classrooms use.
+        AssignmentKind sitting = new AssignmentKind("TIMED_QUIZ", "Timed Quiz", 60, 100);
+        AssignmentComponent timedQuiz = new TimeTrackingDecorator(quiz, sitting);
         System.out.println("2. Timed Assignment: " + timedQuiz.getDetails());
 
         // 4. Decorate it further (stacking decorators) with Difficulty Tag
@@ -116,6 +48,13 @@ public class DecoratorDemo {
         AssignmentComponent finalProjectDecorated = 
                 new DifficultyTagDecorator(new BasicAssignmentComponent(finalProject), "High");
         System.out.println("4. Final Project: " + finalProjectDecorated.getDetails());
+
+        // 6. Cache a chain that is rendered repeatedly; it is rendered again only after the class changes
+        AssignmentComponent feedEntry = new CachedDetailsDecorator(advancedQuiz);
+        System.out.println("5. Cached Assignment: " + feedEntry.getDetails());
+        manager.submitAssignment("G1", "Geo 8", "Geography Quiz");
+        System.out.println("6. After Submission: " + feedEntry.getDetails());
+        manager.shutdown();
         
         AppLogger.logInfo("DecoratorDemo", "Decorator Pattern Demo Finished.\n");
     }